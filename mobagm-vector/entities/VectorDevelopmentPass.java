@@ -0,0 +1,52 @@
+// VectorDevelopmentPass.java
+package com.mobagm.entities;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * DevelopmentKernel's attribute and overall update with the incubating Vector API. Kept in
+ * its own source root and loaded reflectively, so the rest of the simulation builds and
+ * runs without the jdk.incubator.vector module. Lanes compute exactly what
+ * DevelopmentKernel.applyScalar does, in the same order and without fused multiply-adds,
+ * so the two paths agree to the bit.
+ */
+final class VectorDevelopmentPass implements DevelopmentKernel.Pass {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void apply(DevelopmentKernel k, int count) {
+        int bound = SPECIES.loopBound(count);
+        int j = 0;
+        for (; j < bound; j += SPECIES.length()) {
+            DoubleVector growth = DoubleVector.fromArray(SPECIES, k.growth, j);
+            DoubleVector bonus = DoubleVector.fromArray(SPECIES, k.lateBloomerBonus, j);
+            DoubleVector m = develop(DoubleVector.fromArray(SPECIES, k.mechanical, j), growth,
+                    DoubleVector.fromArray(SPECIES, k.mechanicalNoise, j), bonus);
+            DoubleVector s = develop(DoubleVector.fromArray(SPECIES, k.strategic, j), growth,
+                    DoubleVector.fromArray(SPECIES, k.strategicNoise, j), bonus);
+            DoubleVector sk = develop(DoubleVector.fromArray(SPECIES, k.softSkill, j), growth,
+                    DoubleVector.fromArray(SPECIES, k.softSkillNoise, j), bonus);
+            m.intoArray(k.mechanical, j);
+            s.intoArray(k.strategic, j);
+            sk.intoArray(k.softSkill, j);
+
+            DoubleVector overall = m.add(s).add(sk).div(3.0)
+                    .add(DoubleVector.fromArray(SPECIES, k.mechanicalBonus, j).mul(m))
+                    .add(DoubleVector.fromArray(SPECIES, k.strategicBonus, j).mul(s))
+                    .add(DoubleVector.fromArray(SPECIES, k.softSkillBonus, j).mul(sk))
+                    .min(100.0);
+            overall.intoArray(k.overall, j);
+        }
+        DevelopmentKernel.applyScalar(k, j, count);
+    }
+
+    private static DoubleVector develop(DoubleVector attribute, DoubleVector growth, DoubleVector noise,
+                                        DoubleVector bonus) {
+        return clamp(clamp(attribute.add(growth).add(noise)).add(bonus));
+    }
+
+    private static DoubleVector clamp(DoubleVector v) {
+        return v.min(DevelopmentKernel.MAX_ATTRIBUTE).max(DevelopmentKernel.MIN_ATTRIBUTE);
+    }
+}
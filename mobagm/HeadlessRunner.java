@@ -0,0 +1,197 @@
+// HeadlessRunner.java
+package com.mobagm;
+
+import com.mobagm.archive.MatchArchive;
+import com.mobagm.core.Enums.Region;
+import com.mobagm.core.LeagueManager;
+import com.mobagm.core.LeagueManager.StatisticsManager.YearlyStatistics;
+import com.mobagm.core.SimulationLog;
+import com.mobagm.core.WorldJournal;
+import com.mobagm.entities.Player;
+import com.mobagm.entities.Team;
+import com.mobagm.events.EventBus;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Batch entry point for unattended runs such as nightly balance checks. Simulates a number
+ * of years from a seed with no console output on the hot path and writes a summary at the end.
+ *
+ * Usage: HeadlessRunner --seed N --years N [--parallelism N] [--log none|console|FILE] [--output FILE]
+ *                       [--archive FILE] [--load FILE] [--save FILE] [--journal FILE]
+ *
+ * Progress output is disabled by default; --log FILE buffers it to a file instead. The
+ * summary goes to --output, or to stdout. --archive writes every match to a fresh match
+ * archive file. --load continues a saved world instead of generating one from the seed,
+ * and --save writes the world out once the run finishes. --journal keeps a save current
+ * with a year-by-year journal: an existing journaled save is recovered and continued,
+ * otherwise one is started from the seed.
+ */
+public class HeadlessRunner {
+    private long seed;
+    private int years = 1;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private String logTarget = "none";
+    private String output;
+    private String archivePath;
+    private String loadPath;
+    private String savePath;
+    private String journalPath;
+
+    public static void main(String[] args) throws IOException {
+        HeadlessRunner runner = new HeadlessRunner();
+        try {
+            runner.parseArguments(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: HeadlessRunner --seed N --years N [--parallelism N] "
+                    + "[--log none|console|FILE] [--output FILE] [--archive FILE] [--load FILE] [--save FILE] [--journal FILE]");
+            System.exit(2);
+            return;
+        }
+        runner.run();
+    }
+
+    private void parseArguments(String[] args) {
+        boolean seedGiven = false;
+        for (int i = 0; i < args.length; i++) {
+            String flag = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + flag);
+            }
+            String value = args[++i];
+            try {
+                switch (flag) {
+                    case "--seed":        seed = Long.parseLong(value); seedGiven = true; break;
+                    case "--years":       years = Integer.parseInt(value); break;
+                    case "--parallelism": parallelism = Integer.parseInt(value); break;
+                    case "--log":         logTarget = value; break;
+                    case "--output":      output = value; break;
+                    case "--archive":     archivePath = value; break;
+                    case "--load":        loadPath = value; break;
+                    case "--save":        savePath = value; break;
+                    case "--journal":     journalPath = value; break;
+                    default: throw new IllegalArgumentException("Unknown option " + flag);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number for " + flag + ": " + value);
+            }
+        }
+        if (loadPath != null && journalPath != null) {
+            throw new IllegalArgumentException("--load and --journal cannot be combined");
+        }
+        if (!seedGiven && loadPath == null && (journalPath == null || !Files.exists(Paths.get(journalPath)))) {
+            throw new IllegalArgumentException("--seed, --load or an existing --journal save is required");
+        }
+        if (years < 1) {
+            throw new IllegalArgumentException("--years must be at least 1");
+        }
+    }
+
+    public void run() throws IOException {
+        SimulationLog previousLog = SimulationLog.current();
+        EventBus previousEvents = EventBus.current();
+        // With logging off nothing subscribes, so publishers skip building events altogether
+        EventBus events = logTarget.equals("none") ? new EventBus() : EventBus.withConsole();
+        EventBus.setCurrent(events);
+        Writer logWriter = null;
+        switch (logTarget) {
+            case "none":    SimulationLog.setCurrent(SimulationLog.disabled()); break;
+            case "console": SimulationLog.setCurrent(SimulationLog.buffered(
+                    new OutputStreamWriter(System.out, StandardCharsets.UTF_8))); break;
+            default:
+                logWriter = Files.newBufferedWriter(Paths.get(logTarget), StandardCharsets.UTF_8);
+                SimulationLog.setCurrent(SimulationLog.buffered(logWriter));
+        }
+
+        long start = System.nanoTime();
+        WorldJournal journal = null;
+        LeagueManager manager;
+        if (journalPath != null && Files.exists(Paths.get(journalPath))) {
+            journal = WorldJournal.open(Paths.get(journalPath));
+            manager = journal.getManager();
+        } else {
+            manager = loadPath == null ? new LeagueManager(seed) : LeagueManager.load(Paths.get(loadPath));
+        }
+        seed = manager.getWorldSeed();
+        MatchArchive archive = null;
+        try {
+            if (journalPath != null && journal == null) {
+                journal = WorldJournal.create(manager, Paths.get(journalPath));
+            }
+            if (archivePath != null) {
+                Files.deleteIfExists(Paths.get(archivePath));
+                archive = MatchArchive.open(Paths.get(archivePath), manager.getCurrentYear());
+                manager.setMatchArchive(archive);
+            }
+            manager.getSettings().setParallelism(parallelism);
+            manager.simulateYears(years);
+            if (savePath != null) manager.save(Paths.get(savePath));
+        } finally {
+            manager.shutdown();
+            if (archive != null) archive.close();
+            if (journal != null) journal.close();
+            events.close();
+            EventBus.setCurrent(previousEvents);
+            SimulationLog.current().flush();
+            if (logWriter != null) logWriter.close();
+            SimulationLog.setCurrent(previousLog);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        if (output == null) {
+            PrintWriter out = new PrintWriter(new BufferedWriter(
+                    new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+            writeSummary(manager, seconds, out);
+            out.flush();
+        } else {
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8))) {
+                writeSummary(manager, seconds, out);
+            }
+        }
+    }
+
+    private void writeSummary(LeagueManager manager, double seconds, PrintWriter out) {
+        out.println("=== MOBAGM Headless Run ===");
+        out.printf("Seed: %d%n", seed);
+        out.printf("Years: %d (%d-%d)%n", years, manager.getCurrentYear() - years, manager.getCurrentYear() - 1);
+        out.printf("Parallelism: %d%n", parallelism);
+        out.printf("Elapsed: %.2fs%n", seconds);
+
+        for (YearlyStatistics stats : manager.getStatisticsManager().getAllYearlyStatistics()) {
+            out.println();
+            out.println("--- " + stats.getYear() + " ---");
+            out.println("MSI Champion:    " + nameOf(stats.getMsiChampion()));
+            out.println("Worlds Champion: " + nameOf(stats.getWorldsChampion()));
+            for (Map.Entry<Region, Team> e : stats.getRegionalChampions().entrySet()) {
+                out.printf("  %-6s %s%n", e.getKey().name(), nameOf(e.getValue()));
+            }
+            out.printf("Matches: %d, Games: %d, Avg game time: %.1f min%n",
+                    stats.getTotalMatches(), stats.getTotalGames(), stats.getAverageGameTime());
+        }
+
+        if (manager.getMatchArchive() != null) {
+            out.println();
+            out.printf("Archived matches: %d (%s)%n", manager.getMatchArchive().size(), archivePath);
+        }
+
+        out.println();
+        out.println("--- Top Players ---");
+        for (Region region : Region.values()) {
+            out.println(region.getDisplayName() + ":");
+            List<Player> top = manager.getTopPlayersByRegion(region, 3);
+            for (int i = 0; i < top.size(); i++) {
+                Player player = top.get(i);
+                out.printf("  %d. %s (%s) - %.1f OVR%n", i + 1, player.getName(), player.getRole(), player.getOverall());
+            }
+        }
+    }
+
+    private static String nameOf(Team team) {
+        return team == null ? "-" : team.getName();
+    }
+}
@@ -1,11 +1,15 @@
 // MOBAGMApplication.java
 package com.mobagm;
 
+import com.mobagm.archive.MatchArchive;
 import com.mobagm.core.LeagueManager;
 import com.mobagm.core.Enums.Region;
 import com.mobagm.entities.Player;
 import com.mobagm.entities.Team;
 import com.mobagm.ui.GameUI;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Scanner;
 
 public class MOBAGMApplication {
@@ -16,11 +20,23 @@ public class MOBAGMApplication {
 
     public MOBAGMApplication() {
         this.leagueManager = new LeagueManager();
+        attachMatchArchive();
         this.gameUI = new GameUI(this);
         this.scanner = new Scanner(System.in);
         this.isRunning = true;
     }
 
+    // Match history for this session lives in a temporary file instead of in memory
+    private void attachMatchArchive() {
+        try {
+            Path file = Files.createTempFile("mobagm-matches", ".bin");
+            file.toFile().deleteOnExit();
+            leagueManager.setMatchArchive(MatchArchive.open(file, leagueManager.getCurrentYear()));
+        } catch (IOException e) {
+            System.out.println("Match history is unavailable: " + e.getMessage());
+        }
+    }
+
     public static void main(String[] args) {
         System.out.println("===============================================");
         System.out.println("       MOBAGM - MOBA General Manager          ");
@@ -41,6 +57,13 @@ public class MOBAGMApplication {
         }
 
         scanner.close();
+        if (leagueManager.getMatchArchive() != null) {
+            try {
+                leagueManager.getMatchArchive().close();
+            } catch (IOException e) {
+                // The archive is a temporary file; nothing to recover
+            }
+        }
         System.out.println("Thank you for playing MOBAGM!");
     }
 
@@ -353,7 +376,8 @@ public class MOBAGMApplication {
         System.out.println("2. Player Performance Report");
         System.out.println("3. Team Analysis Report");
         System.out.println("4. Tournament History Report");
-        System.out.println("5. Back to Main Menu");
+        System.out.println("5. Match History Report");
+        System.out.println("6. Back to Main Menu");
 
         System.out.print("Enter your choice: ");
         int choice = Integer.parseInt(scanner.nextLine());
@@ -372,6 +396,9 @@ public class MOBAGMApplication {
                 generateTournamentHistoryReport();
                 break;
             case 5:
+                generateMatchHistoryReport();
+                break;
+            case 6:
                 return;
         }
     }
@@ -399,12 +426,7 @@ public class MOBAGMApplication {
 
         // Global top performers
         System.out.println("Global Top 10 Players:");
-        var allPlayers = leagueManager.getRegionalLeagues().values().stream()
-                .flatMap(league -> league.getChampionsTeams().stream())
-                .flatMap(team -> team.getRoster().values().stream())
-                .sorted((p1, p2) -> Double.compare(p2.getOverall(), p1.getOverall()))
-                .limit(10)
-                .toList();
+        var allPlayers = leagueManager.getPlayerRankings().top(10);
 
         for (int i = 0; i < allPlayers.size(); i++) {
             Player player = allPlayers.get(i);
@@ -451,6 +473,71 @@ public class MOBAGMApplication {
         }
     }
 
+    private void generateMatchHistoryReport() {
+        System.out.println("\n=== MATCH HISTORY REPORT ===");
+
+        var statistics = leagueManager.getStatisticsManager();
+        if (!statistics.hasArchive()) {
+            System.out.println("Match history is not being recorded.");
+            return;
+        }
+
+        System.out.println("Select a region:");
+        Region[] regions = Region.values();
+        for (int i = 0; i < regions.length; i++) {
+            System.out.println((i + 1) + ". " + regions[i].getDisplayName());
+        }
+        System.out.print("Enter your choice: ");
+        int choice = Integer.parseInt(scanner.nextLine());
+        if (choice < 1 || choice > regions.length) {
+            System.out.println("Invalid choice.");
+            return;
+        }
+
+        var teams = leagueManager.getRegionalLeagues().get(regions[choice - 1]).getChampionsTeams();
+        for (int i = 0; i < teams.size(); i++) {
+            System.out.println((i + 1) + ". " + teams.get(i).getName());
+        }
+        System.out.print("Select a team: ");
+        choice = Integer.parseInt(scanner.nextLine());
+        if (choice < 1 || choice > teams.size()) {
+            System.out.println("Invalid choice.");
+            return;
+        }
+        Team team = teams.get(choice - 1);
+
+        System.out.println("\n" + team.getName() + " - Series record by year:");
+        System.out.println("Year | Regular Season | Playoffs | International");
+        System.out.println("-----|----------------|----------|--------------");
+        int lastYear = leagueManager.getCurrentYear();
+        for (int year = Math.max(lastYear - 9, 2024); year <= lastYear; year++) {
+            var regular = statistics.getTeamRecord(team, year, MatchArchive.Stage.REGULAR_SEASON);
+            var playoffs = statistics.getTeamRecord(team, year, MatchArchive.Stage.PLAYOFFS);
+            var international = statistics.getTeamRecord(team, year, MatchArchive.Stage.INTERNATIONAL);
+            if (regular.getWins() + regular.getLosses() + playoffs.getWins() + playoffs.getLosses() == 0) continue;
+            System.out.printf("%4d | %6dW-%3dL   | %2dW-%2dL  | %2dW-%2dL%n", year,
+                    regular.getWins(), regular.getLosses(), playoffs.getWins(), playoffs.getLosses(),
+                    international.getWins(), international.getLosses());
+        }
+
+        var recent = statistics.getTeamMatches(team, lastYear);
+        if (recent.isEmpty() && lastYear > 2024) {
+            recent = statistics.getTeamMatches(team, lastYear - 1);
+        }
+        System.out.println("\nMost recent matches:");
+        for (int i = Math.max(0, recent.size() - 10); i < recent.size(); i++) {
+            var match = recent.get(i);
+            Team opponent = leagueManager.getTeamById(match.getOpponentId(team.getId()));
+            var record = match.getRecord();
+            boolean first = record.getTeam1Id() == team.getId();
+            System.out.printf("%d %-6s vs %-25s %s %d-%d%n", match.getYear(), match.getSplit(),
+                    opponent != null ? opponent.getName() : "Team #" + match.getOpponentId(team.getId()),
+                    match.isWonBy(team.getId()) ? "W" : "L",
+                    first ? record.getTeam1Score() : record.getTeam2Score(),
+                    first ? record.getTeam2Score() : record.getTeam1Score());
+        }
+    }
+
     // Getters for UI access
     public LeagueManager getLeagueManager() {
         return leagueManager;
@@ -2,8 +2,13 @@
 package com.mobagm.tournaments;
 
 import com.mobagm.core.Enums.*;
+import com.mobagm.core.SimulationRandom;
 import com.mobagm.entities.Team;
+import com.mobagm.events.EventBus;
+import com.mobagm.events.SimulationEvent;
+import com.mobagm.events.SimulationEvent.Kind;
 import com.mobagm.simulation.Match;
+import com.mobagm.simulation.MatchRecord;
 import com.mobagm.simulation.MatchResult;
 import java.util.*;
 
@@ -12,6 +17,7 @@ public abstract class Tournament {
     protected TournamentType type;
     protected List<Team> participants;
     protected List<Match> matches;
+    protected List<MatchRecord> matchRecords;
     protected Map<Team, Integer> standings;
     protected Team winner;
     protected boolean isComplete;
@@ -19,16 +25,19 @@ public abstract class Tournament {
     protected Date endDate;
     protected int currentRound;
     protected int totalRounds;
+    protected long seed;
 
     public Tournament(String name, TournamentType type) {
         this.name = name;
         this.type = type;
         this.participants = new ArrayList<>();
         this.matches = new ArrayList<>();
+        this.matchRecords = new ArrayList<>();
         this.standings = new HashMap<>();
         this.isComplete = false;
         this.startDate = new Date();
         this.currentRound = 1;
+        this.seed = SimulationRandom.getDefault().nextAdHocKey();
     }
 
     public abstract void initialize();
@@ -50,6 +59,11 @@ public abstract class Tournament {
     }
 
     public void simulateTournament() {
+        EventBus events = EventBus.current();
+        if (events.isObserved(Kind.TOURNAMENT_STARTED)) {
+            events.publish(new SimulationEvent.TournamentStarted(name, participants.size()));
+        }
+
         initialize();
 
         while (!isComplete) {
@@ -60,6 +74,43 @@ public abstract class Tournament {
         }
 
         endDate = new Date();
+        for (Match match : matches) {
+            matchRecords.add(MatchRecord.of(match));
+        }
+
+        if (winner != null && events.isObserved(Kind.TOURNAMENT_WON)) {
+            events.publish(new SimulationEvent.TournamentWon(name, winner.getName()));
+        }
+    }
+
+    /**
+     * Releases the live matches and their games once the tournament is old enough that only
+     * its compact records are kept. getMatches() is empty afterwards; getMatchRecords() and
+     * the winner, standings and participants are unaffected.
+     */
+    public void compact() {
+        for (Match match : matches) {
+            match.release();
+        }
+        matches = Collections.emptyList();
+    }
+
+    /**
+     * Marks a tournament loaded from a save as finished, with the standings, winner and match
+     * records it had. Participants are added beforehand with addParticipant.
+     */
+    public void restoreResult(Map<Team, Integer> standings, Team winner, List<MatchRecord> records) {
+        this.standings.putAll(standings);
+        this.winner = winner;
+        this.matchRecords.clear();
+        this.matchRecords.addAll(records);
+        this.matches = Collections.emptyList();
+        this.isComplete = true;
+        this.currentRound = totalRounds + 1;
+    }
+
+    public boolean isCompacted() {
+        return isComplete && matches.isEmpty() && !matchRecords.isEmpty();
     }
 
     protected void updateStandings(MatchResult result) {
@@ -70,6 +121,10 @@ public abstract class Tournament {
         standings.put(loser, standings.get(loser) + getLossPoints());
     }
 
+    protected long matchKey(int round, int index) {
+        return SimulationRandom.derive(SimulationRandom.derive(seed, round), index);
+    }
+
     protected int getWinPoints() {
         return 3; // Standard win points
     }
@@ -89,6 +144,7 @@ public abstract class Tournament {
     public TournamentType getType() { return type; }
     public List<Team> getParticipants() { return participants; }
     public List<Match> getMatches() { return matches; }
+    public List<MatchRecord> getMatchRecords() { return Collections.unmodifiableList(matchRecords); }
     public Map<Team, Integer> getStandings() { return standings; }
     public Team getWinner() { return winner; }
     public boolean isComplete() { return isComplete; }
@@ -96,4 +152,6 @@ public abstract class Tournament {
     public Date getEndDate() { return endDate; }
     public int getCurrentRound() { return currentRound; }
     public int getTotalRounds() { return totalRounds; }
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
 }
@@ -0,0 +1,42 @@
+// ArchivedMatch.java
+package com.mobagm.archive;
+
+import com.mobagm.core.Enums.Region;
+import com.mobagm.core.Enums.Split;
+import com.mobagm.simulation.MatchRecord;
+
+// A match read back from the archive, with where and when it was played
+public final class ArchivedMatch {
+    private final int year;
+    private final Split split;
+    private final MatchArchive.Stage stage;
+    private final Region region;
+    private final MatchRecord record;
+
+    ArchivedMatch(int year, Split split, MatchArchive.Stage stage, Region region, MatchRecord record) {
+        this.year = year;
+        this.split = split;
+        this.stage = stage;
+        this.region = region;
+        this.record = record;
+    }
+
+    public boolean involves(int teamId) {
+        return record.getTeam1Id() == teamId || record.getTeam2Id() == teamId;
+    }
+
+    public boolean isWonBy(int teamId) {
+        return record.getWinnerId() == teamId;
+    }
+
+    public int getOpponentId(int teamId) {
+        return record.getTeam1Id() == teamId ? record.getTeam2Id() : record.getTeam1Id();
+    }
+
+    public int getYear() { return year; }
+    public Split getSplit() { return split; }
+    public MatchArchive.Stage getStage() { return stage; }
+    // null for international matches
+    public Region getRegion() { return region; }
+    public MatchRecord getRecord() { return record; }
+}
@@ -0,0 +1,331 @@
+// MatchArchive.java
+package com.mobagm.archive;
+
+import com.mobagm.core.Enums.Region;
+import com.mobagm.core.Enums.Split;
+import com.mobagm.simulation.Game;
+import com.mobagm.simulation.MatchRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Append-only file of every completed match, so centuries of results stay queryable without
+ * living on the heap. Records are fixed-width (RECORD_SIZE bytes), which makes record n a
+ * plain offset; reads go through read-only memory maps of the file, so queries run at
+ * page-cache speed and cost no heap beyond the matches they return.
+ *
+ * Record layout (big-endian):
+ *   0  long   match key
+ *   8  int    team 1 id
+ *  12  int    team 2 id
+ *  16  short  year, as an offset from the archive's base year
+ *  18  byte   split ordinal
+ *  19  byte   stage ordinal
+ *  20  byte   region ordinal, -1 for international matches
+ *  21  byte   games played (at most MAX_GAMES)
+ *  22  byte   game winners, bit i set when team 2 won game i
+ *  23  byte   reserved
+ *  24  5 x unsigned short  game length in whole seconds
+ *  34  5 x unsigned byte   team 1 kills per game
+ *  39  5 x unsigned byte   team 2 kills per game
+ *  44  int    reserved
+ *
+ * Matches must be appended in (year, split) order. The index of where each split starts is
+ * small enough to keep in memory and is rebuilt from the file when it is opened.
+ */
+public final class MatchArchive implements Closeable {
+    public enum Stage { REGULAR_SEASON, PLAYOFFS, INTERNATIONAL }
+
+    public static final int RECORD_SIZE = 48;
+    public static final int MAX_GAMES = 5;
+
+    private static final int MAGIC = 0x4D474D41; // "MGMA"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int WRITE_BATCH = 256;
+    // Records per mapped segment; keeps each mapping well under the 2 GB limit of a buffer
+    private static final int SEGMENT_RECORDS = 1 << 20;
+    private static final Split[] SPLITS = Split.values();
+    private static final Stage[] STAGES = Stage.values();
+    private static final Region[] REGIONS = Region.values();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int baseYear;
+    private final ByteBuffer pending = ByteBuffer.allocateDirect(RECORD_SIZE * WRITE_BATCH);
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final List<Integer> segmentRecords = new ArrayList<>();
+    private long written;  // records on disk
+    private long count;    // records on disk plus pending
+
+    // splitStarts[k] is the first record whose (year, split) key is at least k
+    private long[] splitStarts = new long[64];
+    private int lastKey = -1;
+
+    private MatchArchive(Path path, FileChannel channel, int baseYear) {
+        this.path = path;
+        this.channel = channel;
+        this.baseYear = baseYear;
+    }
+
+    /**
+     * Opens an archive, creating it with the given base year if the file does not exist.
+     * An existing archive keeps its own base year. A torn record left by a crash mid-write
+     * is discarded.
+     */
+    public static MatchArchive open(Path path, int baseYear) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE).putInt(baseYear).putInt(0);
+                header.flip();
+                writeFully(channel, header, 0);
+                return new MatchArchive(path, channel, baseYear);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (channel.read(header, 0) < HEADER_SIZE) {
+                throw new IOException("Truncated match archive header: " + path);
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a match archive: " + path);
+            }
+            short version = header.getShort();
+            short recordSize = header.getShort();
+            if (version != VERSION || recordSize != RECORD_SIZE) {
+                throw new IOException("Unsupported match archive version " + version + ": " + path);
+            }
+
+            MatchArchive archive = new MatchArchive(path, channel, header.getInt());
+            long records = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+            channel.truncate(HEADER_SIZE + records * RECORD_SIZE);
+            archive.written = records;
+            archive.count = records;
+            archive.rebuildIndex();
+            return archive;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void rebuildIndex() {
+        for (long i = 0; i < written; i++) {
+            ByteBuffer segment = segmentFor(i);
+            int offset = offsetOf(i);
+            index(segment.getShort(offset + 16), segment.get(offset + 18), i);
+        }
+    }
+
+    public synchronized void append(int year, Split split, Stage stage, Region region, MatchRecord record) {
+        int games = record.getGameCount();
+        if (games > MAX_GAMES) {
+            throw new IllegalArgumentException("Archive records hold at most " + MAX_GAMES + " games");
+        }
+        int yearOffset = year - baseYear;
+        if (yearOffset < 0 || yearOffset > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Year " + year + " is outside this archive's range");
+        }
+        int key = yearOffset * SPLITS.length + split.ordinal();
+        if (key < lastKey) {
+            throw new IllegalArgumentException("Matches must be archived in season order: " + year + " " + split);
+        }
+
+        if (!pending.hasRemaining()) {
+            drain();
+        }
+        int start = pending.position();
+        int winners = 0;
+        for (int g = 0; g < games; g++) {
+            if (record.getGameWinnerSide(g) == Game.TEAM2_SIDE) {
+                winners |= 1 << g;
+            }
+        }
+        pending.putLong(record.getMatchKey())
+                .putInt(record.getTeam1Id())
+                .putInt(record.getTeam2Id())
+                .putShort((short) yearOffset)
+                .put((byte) split.ordinal())
+                .put((byte) stage.ordinal())
+                .put((byte) (region == null ? -1 : region.ordinal()))
+                .put((byte) games)
+                .put((byte) winners)
+                .put((byte) 0);
+        for (int g = 0; g < MAX_GAMES; g++) {
+            pending.putShort((short) (g < games ? Math.min(0xFFFF, Math.round(record.getGameTime(g) * 60)) : 0));
+        }
+        for (int g = 0; g < MAX_GAMES; g++) {
+            pending.put((byte) (g < games ? Math.min(0xFF, record.getTeam1Kills(g)) : 0));
+        }
+        for (int g = 0; g < MAX_GAMES; g++) {
+            pending.put((byte) (g < games ? Math.min(0xFF, record.getTeam2Kills(g)) : 0));
+        }
+        pending.putInt(0);
+        assert pending.position() - start == RECORD_SIZE;
+
+        index(yearOffset, split.ordinal(), count);
+        count++;
+    }
+
+    public void append(int year, Split split, Stage stage, Region region, List<MatchRecord> records) {
+        for (MatchRecord record : records) {
+            append(year, split, stage, region, record);
+        }
+    }
+
+    private void index(int yearOffset, int split, long record) {
+        int key = yearOffset * SPLITS.length + split;
+        if (key <= lastKey) return;
+        if (key >= splitStarts.length) {
+            splitStarts = Arrays.copyOf(splitStarts, Math.max(key + 1, splitStarts.length * 2));
+        }
+        for (int k = lastKey + 1; k <= key; k++) {
+            splitStarts[k] = record;
+        }
+        lastKey = key;
+    }
+
+    // Writes buffered records to the file; they are then visible to readers of the file
+    public synchronized void flush() {
+        drain();
+    }
+
+    private void drain() {
+        if (pending.position() == 0) return;
+        pending.flip();
+        try {
+            writeFully(channel, pending, HEADER_SIZE + written * RECORD_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write match archive " + path, e);
+        }
+        written = count;
+        pending.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    public synchronized long size() {
+        return count;
+    }
+
+    public synchronized ArchivedMatch get(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + count);
+        }
+        drain();
+        return decode(segmentFor(index), offsetOf(index));
+    }
+
+    public List<ArchivedMatch> getMatches(int year, Split split) {
+        return query(year, split, 0);
+    }
+
+    // All of a team's archived matches in a year, across splits and stages
+    public List<ArchivedMatch> getTeamMatches(int teamId, int year) {
+        return query(year, null, teamId);
+    }
+
+    /**
+     * Matches of one year, optionally narrowed to a split (null for the whole year) and a team
+     * (0 for every team). Only the index range of the year or split is scanned.
+     */
+    public synchronized List<ArchivedMatch> query(int year, Split split, int teamId) {
+        int yearOffset = year - baseYear;
+        if (yearOffset < 0) return Collections.emptyList();
+        int firstKey = yearOffset * SPLITS.length + (split == null ? 0 : split.ordinal());
+        int lastKeyExclusive = split == null ? firstKey + SPLITS.length : firstKey + 1;
+        if (firstKey > lastKey) return Collections.emptyList();
+
+        drain();
+        long from = splitStarts[firstKey];
+        long to = lastKeyExclusive > lastKey ? count : splitStarts[lastKeyExclusive];
+        List<ArchivedMatch> matches = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            ByteBuffer segment = segmentFor(i);
+            int offset = offsetOf(i);
+            if (teamId != 0 && segment.getInt(offset + 8) != teamId && segment.getInt(offset + 12) != teamId) {
+                continue;
+            }
+            matches.add(decode(segment, offset));
+        }
+        return matches;
+    }
+
+    private ArchivedMatch decode(ByteBuffer segment, int offset) {
+        long matchKey = segment.getLong(offset);
+        int team1 = segment.getInt(offset + 8);
+        int team2 = segment.getInt(offset + 12);
+        int year = baseYear + segment.getShort(offset + 16);
+        Split split = SPLITS[segment.get(offset + 18)];
+        Stage stage = STAGES[segment.get(offset + 19)];
+        byte region = segment.get(offset + 20);
+        int games = segment.get(offset + 21);
+        int winners = segment.get(offset + 22);
+
+        byte[] sides = new byte[games];
+        float[] times = new float[games];
+        short[] kills1 = new short[games];
+        short[] kills2 = new short[games];
+        for (int g = 0; g < games; g++) {
+            sides[g] = (winners & (1 << g)) != 0 ? Game.TEAM2_SIDE : Game.TEAM1_SIDE;
+            times[g] = Short.toUnsignedInt(segment.getShort(offset + 24 + g * 2)) / 60f;
+            kills1[g] = (short) Byte.toUnsignedInt(segment.get(offset + 34 + g));
+            kills2[g] = (short) Byte.toUnsignedInt(segment.get(offset + 39 + g));
+        }
+        MatchRecord record = new MatchRecord(team1, team2, matchKey, sides, times, kills1, kills2);
+        return new ArchivedMatch(year, split, stage, region < 0 ? null : REGIONS[region], record);
+    }
+
+    // Maps (or re-maps, if the file has grown) the segment holding a written record
+    private ByteBuffer segmentFor(long index) {
+        int segment = (int) (index / SEGMENT_RECORDS);
+        while (segments.size() <= segment) {
+            segments.add(null);
+            segmentRecords.add(0);
+        }
+        int needed = (int) (index % SEGMENT_RECORDS) + 1;
+        if (segments.get(segment) == null || segmentRecords.get(segment) < needed) {
+            long first = (long) segment * SEGMENT_RECORDS;
+            int records = (int) Math.min(SEGMENT_RECORDS, written - first);
+            try {
+                segments.set(segment, channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + first * RECORD_SIZE, (long) records * RECORD_SIZE));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not map match archive " + path, e);
+            }
+            segmentRecords.set(segment, records);
+        }
+        return segments.get(segment);
+    }
+
+    private static int offsetOf(long index) {
+        return (int) (index % SEGMENT_RECORDS) * RECORD_SIZE;
+    }
+
+    public int getBaseYear() { return baseYear; }
+    public Path getPath() { return path; }
+
+    @Override
+    public synchronized void close() throws IOException {
+        drain();
+        channel.force(false);
+        channel.close();
+        segments.clear();
+        segmentRecords.clear();
+    }
+}
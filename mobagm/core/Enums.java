@@ -29,7 +29,21 @@ public class Enums {
     }
 
     public enum MatchFormat {
-        BO1, BO3, BO5
+        BO1(1), BO3(2), BO5(3);
+
+        private final int gamesToWin;
+
+        MatchFormat(int gamesToWin) {
+            this.gamesToWin = gamesToWin;
+        }
+
+        public int getGamesToWin() {
+            return gamesToWin;
+        }
+
+        public int getMaxGames() {
+            return gamesToWin * 2 - 1;
+        }
     }
 
     public enum League {
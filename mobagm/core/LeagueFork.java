@@ -0,0 +1,180 @@
+// LeagueFork.java
+package com.mobagm.core;
+
+import com.mobagm.core.Enums.Region;
+import com.mobagm.core.Enums.Split;
+import com.mobagm.entities.Player;
+import com.mobagm.entities.PlayerState;
+import com.mobagm.entities.Team;
+import com.mobagm.entities.TeamState;
+import com.mobagm.entities.TeamStrength;
+import com.mobagm.leagues.RegionState;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * Mutable what-if copy of a LeagueSnapshot. Only changed players, teams and regions are
+ * stored here; everything else is read through to the shared snapshot, so forking costs
+ * O(changes) rather than a deep copy of the league. Nothing in a fork touches the live
+ * Player and Team objects, which are used purely as identities.
+ *
+ * Not thread-safe; give each thread its own fork.
+ */
+public final class LeagueFork {
+    private final LeagueSnapshot base;
+    private final Map<Player, PlayerState> players;
+    private final Map<Team, TeamState> teams;
+    private final Map<Region, RegionState> regions;
+    private List<Player> freeAgents; // null until this fork changes the pool
+
+    LeagueFork(LeagueSnapshot base) {
+        this.base = base;
+        this.players = new IdentityHashMap<>();
+        this.teams = new IdentityHashMap<>();
+        this.regions = new EnumMap<>(Region.class);
+    }
+
+    private LeagueFork(LeagueFork parent) {
+        this.base = parent.base;
+        this.players = new IdentityHashMap<>(parent.players);
+        this.teams = new IdentityHashMap<>(parent.teams);
+        this.regions = new EnumMap<>(parent.regions);
+        this.freeAgents = parent.freeAgents == null ? null : new ArrayList<>(parent.freeAgents);
+    }
+
+    // Independent copy of this fork, sharing the snapshot; costs O(changes so far)
+    public LeagueFork fork() {
+        return new LeagueFork(this);
+    }
+
+    // State lookups fall through to the snapshot; players it never saw are captured on first use
+    public PlayerState getPlayerState(Player player) {
+        PlayerState state = players.get(player);
+        if (state == null) state = base.getPlayerState(player);
+        return state != null ? state : player.getState();
+    }
+
+    public TeamState getTeamState(Team team) {
+        TeamState state = teams.get(team);
+        return state != null ? state : base.getTeamState(team);
+    }
+
+    public RegionState getRegionState(Region region) {
+        RegionState state = regions.get(region);
+        return state != null ? state : base.getRegionState(region);
+    }
+
+    public List<Player> getFreeAgents() {
+        return freeAgents != null ? Collections.unmodifiableList(freeAgents) : base.getFreeAgents();
+    }
+
+    // Reuses the snapshot's figures unless this fork changed the team or one of its starters
+    public TeamStrength getTeamStrength(Team team) {
+        TeamState state = teams.get(team);
+        if (state == null) {
+            state = base.getTeamState(team);
+            if (!anyChanged(state.getRoster().values())) {
+                return base.getTeamStrength(team);
+            }
+        }
+        List<PlayerState> starters = new ArrayList<>(state.getRoster().size());
+        for (Player player : state.getRoster().values()) {
+            starters.add(getPlayerState(player));
+        }
+        return TeamStrength.of(starters);
+    }
+
+    private boolean anyChanged(Collection<Player> roster) {
+        if (players.isEmpty()) return false;
+        for (Player player : roster) {
+            if (players.containsKey(player)) return true;
+        }
+        return false;
+    }
+
+    public int getWins(Team team) { return getRegionState(team.getRegion()).getWins(team); }
+    public int getLosses(Team team) { return getRegionState(team.getRegion()).getLosses(team); }
+
+    public void setPlayerState(Player player, PlayerState state) {
+        players.put(player, state);
+    }
+
+    public void updatePlayer(Player player, UnaryOperator<PlayerState> change) {
+        players.put(player, change.apply(getPlayerState(player)));
+    }
+
+    public void setRecord(Team team, int wins, int losses) {
+        regions.put(team.getRegion(), getRegionState(team.getRegion()).withRecord(team, wins, losses));
+    }
+
+    /**
+     * Signs a player using the same rules as Team.signPlayer: the salary must fit the budget
+     * and a starter in the same role moves to the bench. A player on another team is
+     * transferred without salary recovery; a free agent leaves the pool.
+     */
+    public boolean signPlayer(Team team, Player player) {
+        PlayerState playerState = getPlayerState(player);
+        TeamState teamState = getTeamState(team);
+        if (playerState.getSalary() > teamState.getBudget()) {
+            return false;
+        }
+
+        Team previous = playerState.getTeam();
+        if (previous != null && previous != team) {
+            teams.put(previous, getTeamState(previous).without(player, 0));
+        }
+        removeFreeAgent(player);
+
+        // Re-read in case the player was already on this team's bench
+        teamState = getTeamState(team);
+        if (teamState.contains(player)) {
+            teamState = teamState.without(player, 0);
+        }
+        teams.put(team, teamState.withSigned(player, player.getRole(), playerState.getSalary()));
+        players.put(player, playerState.withTeam(team));
+        return true;
+    }
+
+    // Same budget rule as Team.releasePlayer; the player joins the free-agent pool
+    public void releasePlayer(Player player) {
+        PlayerState playerState = getPlayerState(player);
+        Team team = playerState.getTeam();
+        if (team != null) {
+            teams.put(team, getTeamState(team).without(player, playerState.getSalary() / 2));
+        }
+        players.put(player, playerState.withTeam(null));
+        if (!getFreeAgents().contains(player)) {
+            mutableFreeAgents().add(player);
+        }
+    }
+
+    public void retirePlayer(Player player) {
+        PlayerState playerState = getPlayerState(player);
+        Team team = playerState.getTeam();
+        if (team != null) {
+            teams.put(team, getTeamState(team).without(player, 0));
+        }
+        removeFreeAgent(player);
+        players.put(player, playerState.withTeam(null).withRetired(true));
+    }
+
+    private void removeFreeAgent(Player player) {
+        if (getFreeAgents().contains(player)) {
+            mutableFreeAgents().remove(player);
+        }
+    }
+
+    private List<Player> mutableFreeAgents() {
+        if (freeAgents == null) {
+            freeAgents = new ArrayList<>(base.getFreeAgents());
+        }
+        return freeAgents;
+    }
+
+    public LeagueSnapshot getBase() { return base; }
+    public int getYear() { return base.getYear(); }
+    public Split getSplit() { return base.getSplit(); }
+    public int getChangedPlayerCount() { return players.size(); }
+    public int getChangedTeamCount() { return teams.size(); }
+}
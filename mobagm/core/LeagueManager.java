@@ -1,28 +1,74 @@
 // LeagueManager.java
 package com.mobagm.core;
 
+import com.mobagm.archive.ArchivedMatch;
+import com.mobagm.archive.MatchArchive;
 import com.mobagm.core.Enums.*;
+import com.mobagm.core.SimulationRandom.Domain;
+import com.mobagm.entities.DevelopmentKernel;
 import com.mobagm.entities.Player;
+import com.mobagm.entities.PlayerRankings;
+import com.mobagm.entities.PlayerStore;
 import com.mobagm.entities.Team;
+import com.mobagm.events.EventBus;
+import com.mobagm.events.SimulationEvent;
+import com.mobagm.events.SimulationEvent.*;
+import com.mobagm.generators.NameGenerator;
 import com.mobagm.leagues.RegionalLeague;
+import com.mobagm.leagues.SplitForecast;
+import com.mobagm.leagues.SplitForecaster;
+import com.mobagm.leagues.SplitHistory;
+import com.mobagm.simulation.MatchRecord;
 import com.mobagm.tournaments.SwissTournament;
 import com.mobagm.tournaments.Tournament;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 public class LeagueManager {
     private Map<Region, RegionalLeague> regionalLeagues;
     private List<Tournament> internationalTournaments;
+    // Tournaments still holding live matches, with the split they were played in
+    private final Map<Tournament, Integer> detailedTournaments = new LinkedHashMap<>();
     private int currentYear;
     private Split currentSplit;
-    private boolean isRunning;
+    private volatile boolean isRunning;
+    // Keys every random stream of this world
+    private final SimulationRandom simulationRandom;
+    // Columns and ids of this world's players
+    private final PlayerStore playerStore = new PlayerStore();
+    private final PlayerRankings playerRankings = new PlayerRankings();
+    private final NameGenerator nameGenerator;
     private List<Player> freeAgents;
     private AllStarManager allStarManager;
     private StatisticsManager statisticsManager;
     private SimulationSettings settings;
+    private ExecutorService simulationExecutor;
+    private MatchArchive archive;
+    private WorldJournal journal;
+    private boolean ownsSimulationExecutor;
+
+    // Replacement-level contracts for vacancies no free agent can fill
+    private static final int MINIMUM_SALARY = 20000;
 
     public LeagueManager() {
-        this.regionalLeagues = new HashMap<>();
+        this(SimulationRandom.newWorldSeed());
+    }
+
+    public LeagueManager(long worldSeed) {
+        this(worldSeed, true);
+    }
+
+    // Without generation the world starts empty; WorldSave.load fills it in
+    private LeagueManager(long worldSeed, boolean generateWorld) {
+        this.simulationRandom = new SimulationRandom(worldSeed);
+        this.nameGenerator = new NameGenerator(simulationRandom);
+        this.regionalLeagues = new EnumMap<>(Region.class);
         this.internationalTournaments = new ArrayList<>();
         this.currentYear = 2024;
         this.currentSplit = Split.WINTER;
@@ -32,80 +78,284 @@ public class LeagueManager {
         this.statisticsManager = new StatisticsManager();
         this.settings = new SimulationSettings();
 
-        initializeLeagues();
+        if (generateWorld) {
+            initializeLeagues();
+        }
+    }
+
+    static LeagueManager empty(long worldSeed) {
+        return new LeagueManager(worldSeed, false);
+    }
+
+    // Installs loaded leagues, replaces the free agent pool and appends loaded tournaments
+    void restoreWorld(int year, Split split, Collection<RegionalLeague> leagues, List<Player> freeAgents,
+                      List<Tournament> tournaments) {
+        this.currentYear = year;
+        this.currentSplit = split;
+        for (RegionalLeague league : leagues) {
+            regionalLeagues.put(league.getRegion(), league);
+        }
+        this.freeAgents.clear();
+        this.freeAgents.addAll(freeAgents);
+        this.internationalTournaments.addAll(tournaments);
+    }
+
+    /**
+     * Writes the whole world to a versioned binary save file; see WorldSave. Only possible
+     * between splits. The attached match archive, if any, is a separate file.
+     */
+    public void save(Path path) throws IOException {
+        WorldSave.save(this, path);
+    }
+
+    public static LeagueManager load(Path path) throws IOException {
+        return WorldSave.load(path);
     }
 
     private void initializeLeagues() {
         // Initialize regional leagues
         for (Region region : Region.values()) {
-            RegionalLeague league = new RegionalLeague(region);
+            RegionalLeague league = new RegionalLeague(region, this);
             league.initializeLeague();
             regionalLeagues.put(region, league);
         }
 
-        System.out.println("MOBAGM Simulation initialized with " + Region.values().length + " regions");
-        System.out.println("Starting year: " + currentYear);
+        // Opening rosters can exceed a team's budget; fill whatever could not be signed
+        fillRosterVacancies();
+
+        log().println("MOBAGM Simulation initialized with " + Region.values().length + " regions");
+        log().println("Starting year: " + currentYear);
+        log().println("World seed: " + simulationRandom.getWorldSeed());
     }
 
     public void startSimulation() {
         isRunning = true;
-        System.out.println("=== MOBAGM Simulation Started ===");
+        log().println("=== MOBAGM Simulation Started ===");
 
         while (isRunning) {
             simulateYear();
 
-            if (settings.isAutoAdvance()) {
-                currentYear++;
-            } else {
+            if (!settings.isAutoAdvance()) {
                 // Wait for user input to continue
                 break;
             }
         }
+        // Let asynchronous subscribers catch up before the menu takes the console back
+        events().flush();
+    }
+
+    // Simulates a fixed number of years without waiting for input; stops early if paused
+    public void simulateYears(int years) {
+        isRunning = true;
+        for (int i = 0; i < years && isRunning; i++) {
+            simulateYear();
+        }
+        isRunning = false;
+        events().flush();
     }
 
     private void simulateYear() {
-        System.out.println("\n=== YEAR " + currentYear + " ===");
+        if (events().isObserved(Kind.YEAR_STARTED)) {
+            events().publish(new YearStarted(currentYear));
+        }
+        StatisticsManager.YearlyStatistics stats = statisticsManager.startYear(currentYear);
+        long matchesBefore = regionalMatchesPlayed();
+        long gamesBefore = regionalGamesPlayed();
+        double gameTimeBefore = regionalGameTime();
 
         // Simulate all three splits
         for (Split split : Split.values()) {
             currentSplit = split;
-            simulateSplit();
+            simulateSplit(stats);
         }
 
         // End of year activities
         conductEndOfYearActivities();
 
         // Update statistics
-        statisticsManager.updateYearlyStatistics(currentYear);
+        for (RegionalLeague league : regionalLeagues.values()) {
+            stats.getRegionalChampions().put(league.getRegion(), league.getSplitWinner());
+        }
+        stats.addMatches(regionalMatchesPlayed() - matchesBefore,
+                regionalGamesPlayed() - gamesBefore, regionalGameTime() - gameTimeBefore);
+
+        // Regional leagues roll their own year over at the end of Summer
+        currentYear++;
+
+        if (journal != null) {
+            journal.checkpoint();
+        }
     }
 
-    private void simulateSplit() {
-        System.out.println("\n--- " + currentSplit + " " + currentYear + " ---");
+    private long regionalMatchesPlayed() {
+        long total = 0;
+        for (RegionalLeague league : regionalLeagues.values()) total += league.getMatchesPlayed();
+        return total;
+    }
 
-        // Simulate all regional leagues
-        for (RegionalLeague league : regionalLeagues.values()) {
-            league.simulateSplit();
+    private long regionalGamesPlayed() {
+        long total = 0;
+        for (RegionalLeague league : regionalLeagues.values()) total += league.getGamesPlayed();
+        return total;
+    }
+
+    private double regionalGameTime() {
+        double total = 0;
+        for (RegionalLeague league : regionalLeagues.values()) total += league.getTotalGameTime();
+        return total;
+    }
+
+    private void simulateSplit(StatisticsManager.YearlyStatistics stats) {
+        if (events().isObserved(Kind.SPLIT_STARTED)) {
+            events().publish(new SplitStarted(currentYear, currentSplit));
         }
 
+        // Simulate all regional leagues; regions share no teams until MSI/Worlds
+        simulateRegionalSplits();
+
+        // Players retire as the split rolls over; international rosters must be complete
+        fillRosterVacancies();
+
         // International tournaments
+        Tournament international = null;
         if (currentSplit == Split.SPRING) {
-            simulateMSI();
+            international = simulateMSI();
+            stats.setMsiChampion(international.getWinner());
+            stats.addTournament(international);
         } else if (currentSplit == Split.SUMMER) {
-            simulateWorlds();
+            international = simulateWorlds();
+            stats.setWorldsChampion(international.getWinner());
+            stats.addTournament(international);
         }
+        archiveSplitResults(international);
 
         // All-Star events
         if (currentSplit == Split.WINTER) {
             allStarManager.simulateAllStarEvent(this);
         }
 
+        applyHistoryRetention();
+
         // Update free agency
         updateFreeAgency();
     }
 
-    private void simulateMSI() {
-        System.out.println("\n=== MSI " + currentYear + " ===");
+    // Appends the split's regional and international matches to the archive, regions in order
+    private void archiveSplitResults(Tournament international) {
+        if (archive == null) return;
 
+        for (RegionalLeague league : regionalLeagues.values()) {
+            SplitHistory split = league.getLastSplit();
+            archive.append(split.getYear(), split.getSplit(), MatchArchive.Stage.REGULAR_SEASON,
+                    split.getRegion(), split.getRegularSeason());
+            archive.append(split.getYear(), split.getSplit(), MatchArchive.Stage.PLAYOFFS,
+                    split.getRegion(), split.getPlayoffs());
+        }
+        if (international != null) {
+            archive.append(currentYear, currentSplit, MatchArchive.Stage.INTERNATIONAL, null,
+                    international.getMatchRecords());
+        }
+        archive.flush();
+    }
+
+    // Tournaments older than the detailed-history window keep only their compact match records
+    private void applyHistoryRetention() {
+        int split = splitIndex();
+        detailedTournaments.entrySet().removeIf(e -> {
+            if (split - e.getValue() < settings.getDetailedHistorySplits()) return false;
+            e.getKey().compact();
+            return true;
+        });
+    }
+
+    private int splitIndex() {
+        return currentYear * Split.values().length + currentSplit.ordinal();
+    }
+
+    private void simulateRegionalSplits() {
+        for (RegionalLeague league : regionalLeagues.values()) {
+            league.setParallelRounds(settings.getParallelism() > 1);
+            // With an archive attached, older regional results are read from disk instead
+            league.setHistoryRetention(settings.getDetailedHistorySplits(),
+                    archive == null ? settings.getRecordedHistorySplits() : 1);
+        }
+
+        if (settings.getParallelism() <= 1) {
+            regionalLeagues.values().forEach(RegionalLeague::simulateSplit);
+            return;
+        }
+
+        // Each region's events are held back and published region by region, as in a sequential run
+        List<Callable<List<SimulationEvent>>> tasks = new ArrayList<>();
+        for (RegionalLeague league : regionalLeagues.values()) {
+            tasks.add(() -> EventBus.defer(league::simulateSplit));
+        }
+
+        try {
+            List<List<SimulationEvent>> regionEvents = new ArrayList<>();
+            for (Future<List<SimulationEvent>> future : getSimulationExecutor().invokeAll(tasks)) {
+                regionEvents.add(future.get());
+            }
+            regionEvents.forEach(events()::publishAll);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Regional split simulation was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException("Regional split simulation failed", cause);
+        }
+    }
+
+    private synchronized ExecutorService getSimulationExecutor() {
+        if (simulationExecutor == null) {
+            simulationExecutor = new ForkJoinPool(settings.getParallelism());
+            ownsSimulationExecutor = true;
+        }
+        return simulationExecutor;
+    }
+
+    /**
+     * Runs regional simulation on the given executor instead of the default fork-join pool,
+     * e.g. a virtual-thread-per-task executor on runtimes that provide one. The caller keeps
+     * ownership of the executor.
+     */
+    public synchronized void setSimulationExecutor(ExecutorService executor) {
+        shutdown();
+        this.simulationExecutor = executor;
+        this.ownsSimulationExecutor = false;
+    }
+
+    /**
+     * Attaches an archive that every completed match is appended to from now on. Regional
+     * history then stays on disk rather than in memory, and StatisticsManager queries it.
+     * The caller keeps ownership and closes it.
+     */
+    public void setMatchArchive(MatchArchive archive) {
+        this.archive = archive;
+        statisticsManager.setArchive(archive);
+    }
+
+    public MatchArchive getMatchArchive() { return archive; }
+
+    // Called by WorldJournal as it attaches and closes; the journal checkpoints after every year
+    void setWorldJournal(WorldJournal journal) {
+        this.journal = journal;
+    }
+
+    public WorldJournal getWorldJournal() { return journal; }
+
+    // Releases the default executor; the next parallel split creates a fresh one
+    public synchronized void shutdown() {
+        if (simulationExecutor != null && ownsSimulationExecutor) {
+            simulationExecutor.shutdown();
+        }
+        simulationExecutor = null;
+        ownsSimulationExecutor = false;
+    }
+
+    private Tournament simulateMSI() {
         // Get representative from each region (Spring champions)
         List<Team> msiTeams = new ArrayList<>();
         for (RegionalLeague league : regionalLeagues.values()) {
@@ -119,17 +369,17 @@ public class LeagueManager {
 
         // Create MSI tournament
         Tournament msi = new SwissTournament("MSI " + currentYear, 3);
+        msi.setSeed(simulationRandom.key(Domain.TOURNAMENT, currentYear, currentSplit.ordinal()));
         msiTeams.forEach(msi::addParticipant);
 
         msi.simulateTournament();
         internationalTournaments.add(msi);
+        detailedTournaments.put(msi, splitIndex());
 
-        System.out.println("MSI " + currentYear + " Champion: " + msi.getWinner().getName());
+        return msi;
     }
 
-    private void simulateWorlds() {
-        System.out.println("\n=== WORLDS " + currentYear + " ===");
-
+    private Tournament simulateWorlds() {
         // Get representatives from each region
         List<Team> worldsTeams = new ArrayList<>();
 
@@ -146,24 +396,29 @@ public class LeagueManager {
 
         // Create Worlds tournament
         Tournament worlds = new SwissTournament("Worlds " + currentYear, 5);
+        worlds.setSeed(simulationRandom.key(Domain.TOURNAMENT, currentYear, currentSplit.ordinal()));
         worldsTeams.forEach(worlds::addParticipant);
 
         worlds.simulateTournament();
         internationalTournaments.add(worlds);
-
-        System.out.println("Worlds " + currentYear + " Champion: " + worlds.getWinner().getName());
+        detailedTournaments.put(worlds, splitIndex());
 
         // Award championship
         worlds.getWinner().getStatistics().setChampionshipsWon(
                 worlds.getWinner().getStatistics().getChampionshipsWon() + 1);
+        return worlds;
     }
 
     private void conductEndOfYearActivities() {
-        System.out.println("\n=== End of Year " + currentYear + " Activities ===");
-
         // Retire old players and generate new ones
         managePlayerRetirements();
 
+        // Mastery fades once a year for every player, signed or not
+        decayChampionMastery();
+
+        // Unsigned players age too, so the free agent pool does not grow without bound
+        ageFreeAgents();
+
         // Generate new rookie players
         generateRookies();
 
@@ -174,38 +429,45 @@ public class LeagueManager {
         printYearSummary();
     }
 
+    // Players normally leave their team as they retire during development; this catches any left on a roster
     private void managePlayerRetirements() {
-        int retiredCount = 0;
-
         for (RegionalLeague league : regionalLeagues.values()) {
-            // Check Champions teams
-            for (Team team : league.getChampionsTeams()) {
-                Iterator<Player> iterator = team.getRoster().values().iterator();
-                while (iterator.hasNext()) {
-                    Player player = iterator.next();
-                    if (player.isRetired()) {
-                        System.out.println(player.getName() + " has retired from professional play");
-                        team.releasePlayer(player);
-                        retiredCount++;
+            List<Team> allTeams = new ArrayList<>();
+            allTeams.addAll(league.getChampionsTeams());
+            allTeams.addAll(league.getChallengersTeams());
+
+            for (Team team : allTeams) {
+                List<Player> retired = new ArrayList<>();
+                for (Player player : team.getRoster().values()) {
+                    if (player.isRetired()) retired.add(player);
+                }
+                for (Player player : retired) {
+                    team.releasePlayer(player);
+                    if (events().isObserved(Kind.PLAYER_RETIRED)) {
+                        events().publish(new PlayerRetired(player.getName(), player.getRole(), player.getAge(), team.getName()));
                     }
                 }
             }
+        }
+    }
 
-            // Check Challengers teams
+    private void decayChampionMastery() {
+        for (RegionalLeague league : regionalLeagues.values()) {
+            for (Team team : league.getChampionsTeams()) {
+                team.getRoster().values().forEach(player -> player.getChampionMastery().decay());
+            }
             for (Team team : league.getChallengersTeams()) {
-                Iterator<Player> iterator = team.getRoster().values().iterator();
-                while (iterator.hasNext()) {
-                    Player player = iterator.next();
-                    if (player.isRetired()) {
-                        System.out.println(player.getName() + " has retired from professional play");
-                        team.releasePlayer(player);
-                        retiredCount++;
-                    }
-                }
+                team.getRoster().values().forEach(player -> player.getChampionMastery().decay());
             }
         }
+        freeAgents.forEach(player -> player.getChampionMastery().decay());
+    }
 
-        System.out.println("Total players retired: " + retiredCount);
+    private void ageFreeAgents() {
+        DevelopmentKernel development = new DevelopmentKernel();
+        development.addAll(freeAgents);
+        development.run();
+        freeAgents.removeIf(Player::isRetired);
     }
 
     private void generateRookies() {
@@ -213,23 +475,26 @@ public class LeagueManager {
 
         // Generate rookies for each region
         for (Region region : Region.values()) {
-            int rookiesForRegion = 10 + new Random().nextInt(20); // 10-30 rookies per region
+            RandomStream random = new RandomStream(simulationRandom.key(Domain.ROOKIES, currentYear, region.ordinal()));
+            int rookiesForRegion = 10 + random.nextInt(20); // 10-30 rookies per region
 
             for (int i = 0; i < rookiesForRegion; i++) {
-                Role role = Role.values()[new Random().nextInt(Role.values().length)];
-                String name = com.mobagm.generators.NameGenerator.generatePlayerName();
-                Player rookie = new Player(name, role, 16 + new Random().nextInt(3)); // 16-18 years old
+                Role role = Role.values()[random.nextInt(Role.values().length)];
+                long name = nameGenerator.generatePlayerName();
+                Player rookie = new Player(playerStore, simulationRandom, name, role, 16 + random.nextInt(3)); // 16-18 years old
 
                 // Rookies have lower salary expectations
-                rookie.setSalary(20000 + new Random().nextInt(50000));
-                rookie.setContractLength(1 + new Random().nextInt(2));
+                rookie.setSalary(20000 + random.nextInt(50000));
+                rookie.setContractLength(1 + random.nextInt(2));
 
                 freeAgents.add(rookie);
                 rookiesGenerated++;
             }
         }
 
-        System.out.println("Generated " + rookiesGenerated + " rookie players");
+        if (events().isObserved(Kind.ROOKIES_GENERATED)) {
+            events().publish(new RookiesGenerated(currentYear, rookiesGenerated));
+        }
     }
 
     private void updateFreeAgency() {
@@ -259,57 +524,93 @@ public class LeagueManager {
             }
         }
 
-        System.out.println("Free agents available: " + freeAgents.size());
+        fillRosterVacancies();
+
+        if (events().isObserved(Kind.FREE_AGENCY_UPDATED)) {
+            events().publish(new FreeAgencyUpdated(freeAgents.size()));
+        }
+    }
+
+    // Every team fields a full roster: best affordable free agent per open role, else a replacement player
+    private void fillRosterVacancies() {
+        for (RegionalLeague league : regionalLeagues.values()) {
+            for (Team team : league.getChampionsTeams()) fillVacancies(team);
+            for (Team team : league.getChallengersTeams()) fillVacancies(team);
+        }
+    }
+
+    private void fillVacancies(Team team) {
+        for (Role role : Role.values()) {
+            if (team.getRoster().containsKey(role)) continue;
+
+            RandomStream random = new RandomStream(simulationRandom.key(Domain.ROSTER,
+                    team.getName().hashCode(), currentYear * 3 + currentSplit.ordinal(), role.ordinal()));
+
+            Player signing = null;
+            for (Player player : freeAgents) {
+                if (player.getRole() == role && !player.isRetired() && player.getSalary() <= team.getBudget()
+                        && (signing == null || player.getOverall() > signing.getOverall())) {
+                    signing = player;
+                }
+            }
+
+            if (signing == null) {
+                long name = nameGenerator.generatePlayerName();
+                signing = new Player(playerStore, simulationRandom, name, role, 18 + random.nextInt(5));
+                signing.setSalary(Math.min(MINIMUM_SALARY, team.getBudget()));
+            } else {
+                freeAgents.remove(signing);
+            }
+
+            signing.setContractLength(1 + random.nextInt(3));
+            team.signPlayer(signing);
+        }
     }
 
     private void printYearSummary() {
-        System.out.println("\n=== " + currentYear + " YEAR SUMMARY ===");
+        if (!events().isObserved(Kind.YEAR_COMPLETED)) return;
 
-        // Regional champions
-        System.out.println("\nRegional Champions:");
+        Map<Region, String> champions = new EnumMap<>(Region.class);
+        List<PlayerLine> topPlayers = new ArrayList<>();
         for (Region region : Region.values()) {
-            RegionalLeague league = regionalLeagues.get(region);
-            Team champion = league.getSplitWinner();
+            Team champion = regionalLeagues.get(region).getSplitWinner();
             if (champion != null) {
-                System.out.println(region.getDisplayName() + ": " + champion.getName());
+                champions.put(region, champion.getName());
+            }
+            for (Player player : getTopPlayersByRegion(region, 3)) {
+                topPlayers.add(playerLine(region, player));
             }
         }
 
-        // International tournaments
-        System.out.println("\nInternational Tournament Winners:");
+        Map<String, String> winners = new LinkedHashMap<>();
         for (Tournament tournament : internationalTournaments) {
             if (tournament.getName().contains(String.valueOf(currentYear))) {
-                System.out.println(tournament.getName() + ": " + tournament.getWinner().getName());
+                winners.put(tournament.getName(), tournament.getWinner().getName());
             }
         }
 
-        // Top players by region
-        System.out.println("\nTop Players by Region:");
-        for (Region region : Region.values()) {
-            List<Player> topPlayers = getTopPlayersByRegion(region, 3);
-            System.out.println(region.getDisplayName() + ":");
-            for (int i = 0; i < topPlayers.size(); i++) {
-                Player player = topPlayers.get(i);
-                System.out.println("  " + (i + 1) + ". " + player.getName() + " (" +
-                        player.getRole() + ") - " + String.format("%.1f", player.getOverall()) + " OVR");
-            }
-        }
+        events().publish(new YearCompleted(currentYear, champions, winners, topPlayers));
+    }
+
+    private static PlayerLine playerLine(Region region, Player player) {
+        Team team = player.getCurrentTeam();
+        return new PlayerLine(region, player.getRole(), player.getName(),
+                team == null ? "-" : team.getName(), player.getOverall());
     }
 
+    // Best Champions-league starters of a region by overall, from the maintained PlayerRankings
     public List<Player> getTopPlayersByRegion(Region region, int count) {
-        RegionalLeague league = regionalLeagues.get(region);
-        List<Player> allPlayers = new ArrayList<>();
+        return playerRankings.top(region, count);
+    }
 
-        // Collect all players from Champions teams
-        for (Team team : league.getChampionsTeams()) {
-            allPlayers.addAll(team.getRoster().values());
-        }
+    // Captures standings, rosters, player attributes and free agents; see LeagueSnapshot
+    public LeagueSnapshot snapshot() {
+        return LeagueSnapshot.capture(this);
+    }
 
-        // Sort by overall rating
-        return allPlayers.stream()
-                .sorted((p1, p2) -> Double.compare(p2.getOverall(), p1.getOverall()))
-                .limit(count)
-                .collect(Collectors.toList());
+    // Playoff, title, relegation and international odds for the rest of a region's split
+    public SplitForecast forecastSplit(Region region, int trials) {
+        return SplitForecaster.forecast(regionalLeagues.get(region), trials);
     }
 
     public List<Player> getAllStarPlayersByRegion(Region region) {
@@ -328,9 +629,35 @@ public class LeagueManager {
         settings.setSimulationSpeed(speed);
     }
 
+    private static SimulationLog log() {
+        return SimulationLog.current();
+    }
+
+    private static EventBus events() {
+        return EventBus.current();
+    }
+
     // Getters
     public Map<Region, RegionalLeague> getRegionalLeagues() { return regionalLeagues; }
     public List<Tournament> getInternationalTournaments() { return internationalTournaments; }
+    public PlayerStore getPlayerStore() { return playerStore; }
+    public PlayerRankings getPlayerRankings() { return playerRankings; }
+    public NameGenerator getNameGenerator() { return nameGenerator; }
+    public long getWorldSeed() { return simulationRandom.getWorldSeed(); }
+    public SimulationRandom getSimulationRandom() { return simulationRandom; }
+
+    // Resolves the team ids stored in compact match records; null if no current team has the id
+    public Team getTeamById(int id) {
+        for (RegionalLeague league : regionalLeagues.values()) {
+            for (Team team : league.getChampionsTeams()) {
+                if (team.getId() == id) return team;
+            }
+            for (Team team : league.getChallengersTeams()) {
+                if (team.getId() == id) return team;
+            }
+        }
+        return null;
+    }
     public int getCurrentYear() { return currentYear; }
     public Split getCurrentSplit() { return currentSplit; }
     public boolean isRunning() { return isRunning; }
@@ -341,55 +668,37 @@ public class LeagueManager {
 
     // Inner classes for supporting functionality
     public static class AllStarManager {
+        // Best Champions-league starter in each role of the region
         public List<Player> selectAllStarPlayers(Region region, LeagueManager manager) {
-            List<Player> allPlayers = new ArrayList<>();
-            RegionalLeague league = manager.getRegionalLeagues().get(region);
-
-            // Collect all players from Champions teams
-            for (Team team : league.getChampionsTeams()) {
-                allPlayers.addAll(team.getRoster().values());
-            }
-
-            // Sort by performance and select top players by role
-            Map<Role, List<Player>> playersByRole = allPlayers.stream()
-                    .collect(Collectors.groupingBy(Player::getRole));
-
             List<Player> allStars = new ArrayList<>();
             for (Role role : Role.values()) {
-                List<Player> rolePlayers = playersByRole.get(role);
-                if (rolePlayers != null && !rolePlayers.isEmpty()) {
-                    rolePlayers.sort((p1, p2) -> Double.compare(p2.getOverall(), p1.getOverall()));
-                    allStars.add(rolePlayers.get(0)); // Best player in each role
+                Player best = manager.getPlayerRankings().best(region, role);
+                if (best != null) {
+                    allStars.add(best);
                 }
             }
-
             return allStars;
         }
 
         public void simulateAllStarEvent(LeagueManager manager) {
-            System.out.println("\n=== All-Star Event " + manager.getCurrentYear() + " ===");
+            // The event is exhibition only, so there is nothing to do when nobody is watching
+            if (!events().isObserved(Kind.ALL_STARS_SELECTED)) return;
 
             // Select all-star players from each region
-            Map<Region, List<Player>> allStarsByRegion = new HashMap<>();
+            List<PlayerLine> allStars = new ArrayList<>();
             for (Region region : Region.values()) {
-                allStarsByRegion.put(region, selectAllStarPlayers(region, manager));
-            }
-
-            // Print all-star selections
-            for (Region region : Region.values()) {
-                System.out.println("\n" + region.getDisplayName() + " All-Stars:");
-                List<Player> allStars = allStarsByRegion.get(region);
-                for (Player player : allStars) {
-                    System.out.println("  " + player.getRole() + ": " + player.getName() +
-                            " (" + player.getCurrentTeam().getName() + ") - " +
-                            String.format("%.1f", player.getOverall()) + " OVR");
+                for (Player player : selectAllStarPlayers(region, manager)) {
+                    allStars.add(playerLine(region, player));
                 }
             }
+
+            events().publish(new AllStarsSelected(manager.getCurrentYear(), allStars));
         }
     }
 
     public static class StatisticsManager {
         private Map<Integer, YearlyStatistics> yearlyStats;
+        private MatchArchive archive;
 
         public StatisticsManager() {
             this.yearlyStats = new HashMap<>();
@@ -400,10 +709,40 @@ public class LeagueManager {
             yearlyStats.put(year, stats);
         }
 
+        // Fresh statistics for a year that is about to be simulated
+        public YearlyStatistics startYear(int year) {
+            updateYearlyStatistics(year);
+            return yearlyStats.get(year);
+        }
+
         public YearlyStatistics getYearlyStatistics(int year) {
             return yearlyStats.get(year);
         }
 
+        public List<YearlyStatistics> getAllYearlyStatistics() {
+            List<YearlyStatistics> all = new ArrayList<>(yearlyStats.values());
+            all.sort(Comparator.comparingInt(YearlyStatistics::getYear));
+            return all;
+        }
+
+        public void setArchive(MatchArchive archive) { this.archive = archive; }
+        public boolean hasArchive() { return archive != null; }
+
+        // A team's archived matches in a year, in the order played; empty without an archive
+        public List<ArchivedMatch> getTeamMatches(Team team, int year) {
+            return archive == null ? Collections.emptyList() : archive.getTeamMatches(team.getId(), year);
+        }
+
+        // Series won and lost by a team in a year, optionally limited to one stage
+        public RegionalLeague.LeagueRecord getTeamRecord(Team team, int year, MatchArchive.Stage stage) {
+            RegionalLeague.LeagueRecord record = new RegionalLeague.LeagueRecord(team);
+            for (ArchivedMatch match : getTeamMatches(team, year)) {
+                if (stage != null && match.getStage() != stage) continue;
+                if (match.isWonBy(team.getId())) record.addWin(); else record.addLoss();
+            }
+            return record;
+        }
+
         public static class YearlyStatistics {
             private int year;
             private Map<Region, Team> regionalChampions;
@@ -415,7 +754,25 @@ public class LeagueManager {
 
             public YearlyStatistics(int year) {
                 this.year = year;
-                this.regionalChampions = new HashMap<>();
+                this.regionalChampions = new EnumMap<>(Region.class);
+            }
+
+            // Adds played matches to the totals, keeping the average game time consistent
+            public void addMatches(long matches, long games, double gameTime) {
+                double previousTime = averageGameTime * totalGames;
+                totalMatches += matches;
+                totalGames += games;
+                averageGameTime = totalGames > 0 ? (previousTime + gameTime) / totalGames : 0.0;
+            }
+
+            public void addTournament(Tournament tournament) {
+                long games = 0;
+                double gameTime = 0;
+                for (MatchRecord record : tournament.getMatchRecords()) {
+                    games += record.getGameCount();
+                    gameTime += record.getTotalGameTime();
+                }
+                addMatches(tournament.getMatchRecords().size(), games, gameTime);
             }
 
             // Getters and setters
@@ -441,6 +798,9 @@ public class LeagueManager {
         private boolean enableInternationalTournaments;
         private boolean enableAllStarEvents;
         private boolean enablePlayerDevelopment;
+        private int parallelism;
+        private int detailedHistorySplits;
+        private int recordedHistorySplits;
 
         public SimulationSettings() {
             this.autoAdvance = true;
@@ -449,6 +809,9 @@ public class LeagueManager {
             this.enableInternationalTournaments = true;
             this.enableAllStarEvents = true;
             this.enablePlayerDevelopment = true;
+            this.parallelism = Runtime.getRuntime().availableProcessors();
+            this.detailedHistorySplits = RegionalLeague.DEFAULT_DETAILED_SPLITS;
+            this.recordedHistorySplits = RegionalLeague.DEFAULT_RECORDED_SPLITS;
         }
 
         // Getters and setters
@@ -464,5 +827,13 @@ public class LeagueManager {
         public void setEnableAllStarEvents(boolean enableAllStarEvents) { this.enableAllStarEvents = enableAllStarEvents; }
         public boolean isEnablePlayerDevelopment() { return enablePlayerDevelopment; }
         public void setEnablePlayerDevelopment(boolean enablePlayerDevelopment) { this.enablePlayerDevelopment = enablePlayerDevelopment; }
+        public int getParallelism() { return parallelism; }
+        public void setParallelism(int parallelism) { this.parallelism = Math.max(1, parallelism); }
+        // Finished splits whose matches keep full game detail; older ones are compacted
+        public int getDetailedHistorySplits() { return detailedHistorySplits; }
+        public void setDetailedHistorySplits(int splits) { this.detailedHistorySplits = Math.max(0, splits); }
+        // Finished regional splits whose compact match records are kept at all
+        public int getRecordedHistorySplits() { return recordedHistorySplits; }
+        public void setRecordedHistorySplits(int splits) { this.recordedHistorySplits = Math.max(0, splits); }
     }
 }
@@ -0,0 +1,97 @@
+// LeagueSnapshot.java
+package com.mobagm.core;
+
+import com.mobagm.core.Enums.Region;
+import com.mobagm.core.Enums.Split;
+import com.mobagm.entities.Player;
+import com.mobagm.entities.PlayerState;
+import com.mobagm.entities.Team;
+import com.mobagm.entities.TeamState;
+import com.mobagm.entities.TeamStrength;
+import com.mobagm.leagues.RegionState;
+import com.mobagm.leagues.RegionalLeague;
+
+import java.util.*;
+
+/**
+ * Immutable picture of the league: standings, team membership and budgets, player
+ * attributes and the free-agent pool. Entities cache their immutable state until they
+ * change, so a capture only allocates new states for what changed since the last one and
+ * consecutive snapshots share everything else.
+ *
+ * Snapshots are the root for LeagueFork what-if copies. They are not a way to roll the
+ * live league back: champion mastery, statistics, history and the name sequence are not
+ * captured.
+ */
+public final class LeagueSnapshot {
+    private final long worldSeed;
+    private final int year;
+    private final Split split;
+    private final Map<Region, RegionState> regions;
+    private final Map<Team, TeamState> teams;
+    private final Map<Team, TeamStrength> strengths;
+    private final Map<Player, PlayerState> players;
+    private final List<Player> freeAgents;
+
+    private LeagueSnapshot(long worldSeed, int year, Split split, Map<Region, RegionState> regions,
+                           Map<Team, TeamState> teams, Map<Team, TeamStrength> strengths,
+                           Map<Player, PlayerState> players, List<Player> freeAgents) {
+        this.worldSeed = worldSeed;
+        this.year = year;
+        this.split = split;
+        this.regions = Collections.unmodifiableMap(regions);
+        this.teams = Collections.unmodifiableMap(teams);
+        this.strengths = Collections.unmodifiableMap(strengths);
+        this.players = Collections.unmodifiableMap(players);
+        this.freeAgents = List.copyOf(freeAgents);
+    }
+
+    static LeagueSnapshot capture(LeagueManager manager) {
+        Map<Region, RegionState> regions = new EnumMap<>(Region.class);
+        Map<Team, TeamState> teams = new IdentityHashMap<>();
+        Map<Team, TeamStrength> strengths = new IdentityHashMap<>();
+        Map<Player, PlayerState> players = new IdentityHashMap<>();
+
+        for (Map.Entry<Region, RegionalLeague> e : manager.getRegionalLeagues().entrySet()) {
+            RegionState region = e.getValue().getState();
+            regions.put(e.getKey(), region);
+            captureTeams(region.getChampionsTeams(), teams, strengths, players);
+            captureTeams(region.getChallengersTeams(), teams, strengths, players);
+        }
+        for (Player player : manager.getFreeAgents()) {
+            players.put(player, player.getState());
+        }
+
+        return new LeagueSnapshot(manager.getWorldSeed(), manager.getCurrentYear(),
+                manager.getCurrentSplit(), regions, teams, strengths, players, manager.getFreeAgents());
+    }
+
+    private static void captureTeams(List<Team> source, Map<Team, TeamState> teams,
+                                     Map<Team, TeamStrength> strengths, Map<Player, PlayerState> players) {
+        for (Team team : source) {
+            TeamState state = team.getState();
+            teams.put(team, state);
+            strengths.put(team, team.getStrengthBreakdown());
+            for (Player player : state.getRoster().values()) players.put(player, player.getState());
+            for (Player player : state.getBench()) players.put(player, player.getState());
+            for (Player player : state.getAcademy()) players.put(player, player.getState());
+        }
+    }
+
+    // Isolated, mutable copy-on-write view; creating one is O(1)
+    public LeagueFork fork() {
+        return new LeagueFork(this);
+    }
+
+    public long getWorldSeed() { return worldSeed; }
+    public int getYear() { return year; }
+    public Split getSplit() { return split; }
+    public RegionState getRegionState(Region region) { return regions.get(region); }
+    public Map<Region, RegionState> getRegionStates() { return regions; }
+    public TeamState getTeamState(Team team) { return teams.get(team); }
+    public TeamStrength getTeamStrength(Team team) { return strengths.get(team); }
+    public Set<Team> getTeams() { return teams.keySet(); }
+    public PlayerState getPlayerState(Player player) { return players.get(player); }
+    public Set<Player> getPlayers() { return players.keySet(); }
+    public List<Player> getFreeAgents() { return freeAgents; }
+}
@@ -0,0 +1,78 @@
+// RandomStream.java
+package com.mobagm.core;
+
+/**
+ * Counter-based random stream. The n-th value drawn from a stream is a pure function of
+ * its key and n, so a stream re-created from the same key replays the same sequence on
+ * any thread, in any order relative to other streams.
+ *
+ * Streams are cheap, mutable and not thread-safe; give each unit of work its own.
+ */
+public final class RandomStream {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long key;
+    private long counter;
+    private double nextGaussian;
+    private boolean haveNextGaussian;
+
+    public RandomStream(long key) {
+        reset(key);
+    }
+
+    public RandomStream reset(long key) {
+        this.key = key;
+        this.counter = 0;
+        this.haveNextGaussian = false;
+        return this;
+    }
+
+    public long nextLong() {
+        return SimulationRandom.mix64(key + (++counter) * GOLDEN_GAMMA);
+    }
+
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive: " + bound);
+        }
+        return (int) (((nextLong() >>> 33) * bound) >>> 31);
+    }
+
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    public double nextGaussian() {
+        if (haveNextGaussian) {
+            haveNextGaussian = false;
+            return nextGaussian;
+        }
+
+        // Marsaglia polar method; StrictMath keeps results identical across platforms
+        double v1, v2, s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+
+        double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+        nextGaussian = v2 * multiplier;
+        haveNextGaussian = true;
+        return v1 * multiplier;
+    }
+
+    // Skips ahead without drawing; only possible because values are counter-based
+    public void skip(long draws) {
+        counter += draws;
+        haveNextGaussian = false;
+    }
+
+    public long getKey() { return key; }
+    public long getPosition() { return counter; }
+}
@@ -0,0 +1,73 @@
+// SimulationLog.java
+package com.mobagm.core;
+
+import java.io.*;
+
+/**
+ * Destination for the simulation's progress output (split headers, champions, retirements,
+ * free agency). The interactive menu keeps the console log; headless runs either disable it
+ * or route it to a buffered writer so the simulation never blocks on System.out.
+ *
+ * Like the current EventBus, the active log is process-wide. Callers building
+ * expensive messages in loops should check isEnabled() first.
+ */
+public abstract class SimulationLog implements Flushable {
+    private static volatile SimulationLog current = console();
+
+    public static SimulationLog current() { return current; }
+    public static void setCurrent(SimulationLog log) { current = log; }
+
+    public abstract boolean isEnabled();
+    public abstract void println(String line);
+
+    public void println() {
+        println("");
+    }
+
+    public void printf(String format, Object... args) {
+        if (isEnabled()) {
+            print(String.format(format, args));
+        }
+    }
+
+    protected abstract void print(String text);
+
+    @Override
+    public void flush() {
+    }
+
+    // Writes straight to System.out so it interleaves with the menu's own output
+    public static SimulationLog console() {
+        return new SimulationLog() {
+            @Override public boolean isEnabled() { return true; }
+            @Override public void println(String line) { System.out.println(line); }
+            @Override protected void print(String text) { System.out.print(text); }
+        };
+    }
+
+    public static SimulationLog disabled() {
+        return new SimulationLog() {
+            @Override public boolean isEnabled() { return false; }
+            @Override public void println(String line) { }
+            @Override protected void print(String text) { }
+        };
+    }
+
+    // Buffered, not auto-flushed; call flush() when the run ends
+    public static SimulationLog buffered(Writer out) {
+        return new WriterLog(new PrintWriter(new BufferedWriter(out, 1 << 16), false));
+    }
+
+    private static final class WriterLog extends SimulationLog {
+        private final PrintWriter out;
+
+        WriterLog(PrintWriter out) {
+            this.out = out;
+        }
+
+        @Override public boolean isEnabled() { return true; }
+        @Override public void println(String line) { out.println(line); }
+        @Override protected void print(String text) { out.print(text); }
+        @Override public void flush() { out.flush(); }
+    }
+}
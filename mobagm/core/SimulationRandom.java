@@ -0,0 +1,90 @@
+// SimulationRandom.java
+package com.mobagm.core;
+
+import com.mobagm.core.Enums.Split;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Source of a world's random stream keys. Every key is derived from the world seed plus
+ * the coordinates of the work being done (year, split, match id, game index, ...), so a
+ * whole run can be reproduced from its world seed regardless of thread count or
+ * scheduling order. Each LeagueManager owns an instance, so building or loading another
+ * world never reseeds it; matches and tournaments created outside any world take ad hoc
+ * keys from the default instance.
+ */
+public final class SimulationRandom {
+    public enum Domain {
+        MATCH, GAME, DRAFT, MATCH_STATS, PLAYER, DEVELOPMENT, TEAM, ROSTER, ROOKIES,
+        NAMES, LOGO, TOURNAMENT, AD_HOC, SERIES, FORECAST
+    }
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final AtomicLong seedUniquifier = new AtomicLong(System.nanoTime());
+    private static final SimulationRandom DEFAULT = new SimulationRandom(newWorldSeed());
+
+    private final long worldSeed;
+    private final AtomicLong adHocCounter = new AtomicLong();
+
+    public SimulationRandom(long worldSeed) {
+        this.worldSeed = worldSeed;
+    }
+
+    // Keys for work that belongs to no world, such as a match created from a UI
+    public static SimulationRandom getDefault() {
+        return DEFAULT;
+    }
+
+    public static long newWorldSeed() {
+        return mix64(seedUniquifier.addAndGet(GOLDEN_GAMMA) ^ System.nanoTime());
+    }
+
+    public long getWorldSeed() {
+        return worldSeed;
+    }
+
+    public long key(Domain domain, long a) {
+        return derive(derive(worldSeed, domain.ordinal()), a);
+    }
+
+    public long key(Domain domain, long a, long b) {
+        return derive(key(domain, a), b);
+    }
+
+    public long key(Domain domain, long a, long b, long c) {
+        return derive(key(domain, a, b), c);
+    }
+
+    public long matchKey(int year, Split split, long matchId) {
+        return key(Domain.MATCH, year, split.ordinal(), matchId);
+    }
+
+    public static long gameKey(long matchKey, int gameIndex) {
+        return derive(derive(matchKey, Domain.GAME.ordinal()), gameIndex);
+    }
+
+    // Derives a child key; used to hand out independent sub-streams of an existing key
+    public static long derive(long parentKey, long salt) {
+        return mix64(parentKey ^ mix64(salt + GOLDEN_GAMMA));
+    }
+
+    public static long derive(long parentKey, Domain domain) {
+        return derive(parentKey, -1L - domain.ordinal());
+    }
+
+    // Keys for work outside a scheduled competition (e.g. a match created from a UI);
+    // reproducible only when such work happens in the same order
+    public long nextAdHocKey() {
+        return key(Domain.AD_HOC, adHocCounter.incrementAndGet());
+    }
+
+    public static RandomStream stream(long key) {
+        return new RandomStream(key);
+    }
+
+    // SplitMix64 finalizer
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,537 @@
+// WorldJournal.java
+package com.mobagm.core;
+
+import com.mobagm.core.Enums.*;
+import com.mobagm.entities.*;
+import com.mobagm.leagues.RegionalLeague;
+import com.mobagm.leagues.SplitHistory;
+import com.mobagm.tournaments.Tournament;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead journal that keeps a save file current without rewriting it. After every
+ * simulated year the journal appends one frame holding only what changed since the last
+ * frame, so the cost of persisting a year follows the amount of change rather than the size
+ * of the world: names and old match history are never written again.
+ *
+ * The journal lives next to its base save as {@code <save>.journal}: a 12-byte header (magic,
+ * version, year of the base save) followed by frames of payload length, CRC32 and payload.
+ * A frame holds, in order:
+ *   - the year and split the world resumes from, settings and the name generator position
+ *   - new players in full, then changed players as id, change mask and the changed groups
+ *   - changed teams as id, change mask and the changed groups
+ *   - each region's standings and totals, plus the split histories finished since the last frame
+ *   - free agent ids, new international tournaments and new yearly statistics
+ * Players are numbered by their position in the base save's player table, and new players
+ * are numbered on from there in the order they were journaled.
+ *
+ * Recovery loads the base save and replays the frames in order. A frame cut short by a crash
+ * fails its length or checksum and is dropped, so recovery lands on the last completed year.
+ * Once the journal outgrows the base save, it is folded into a new base save and restarted;
+ * a journal whose base year does not match the save is left over from an interrupted
+ * compaction and is discarded.
+ *
+ * Frames are only written between years, the one point at which LeagueManager can resume.
+ */
+public final class WorldJournal implements Closeable {
+    private static final int MAGIC = 0x4D474D4A; // "MGMJ"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 12;
+    private static final int FRAME_HEADER_SIZE = 8;
+
+    // Change mask bits for players and teams
+    private static final int PLAYER_ATTRIBUTES = 1;
+    private static final int PLAYER_CONTRACT = 2;
+    private static final int PLAYER_STATISTICS = 4;
+    private static final int PLAYER_MASTERY = 8;
+    private static final int TEAM_DETAILS = 1;
+    private static final int TEAM_MEMBERSHIP = 2;
+    private static final int TEAM_STATISTICS = 4;
+    private static final int TEAM_METRICS = 8;
+
+    private static final Region[] REGIONS = Region.values();
+    private static final Split[] SPLITS = Split.values();
+    private static final League[] LEAGUES = League.values();
+
+    private final LeagueManager manager;
+    private final Path savePath;
+    private final Path journalPath;
+    private FileChannel channel;
+    private long saveSize;
+    private int framesReplayed;
+    private Marks marks;
+
+    private WorldJournal(LeagueManager manager, Path savePath) {
+        this.manager = manager;
+        this.savePath = savePath;
+        this.journalPath = savePath.resolveSibling(savePath.getFileName() + ".journal");
+    }
+
+    /**
+     * Writes a base save of the world and starts an empty journal beside it. The journal
+     * attaches to the manager and checkpoints after every simulated year until closed.
+     */
+    public static WorldJournal create(LeagueManager manager, Path savePath) throws IOException {
+        WorldJournal journal = new WorldJournal(manager, savePath);
+        // A journal left over from another world must never be replayed onto the new save
+        Files.deleteIfExists(journal.journalPath);
+        journal.compact();
+        manager.setWorldJournal(journal);
+        return journal;
+    }
+
+    /**
+     * Recovers a world from a base save and its journal, and keeps journaling to them. The
+     * recovered world is available from getManager().
+     */
+    public static WorldJournal open(Path savePath) throws IOException {
+        List<Player> players = new ArrayList<>();
+        LeagueManager manager = WorldSave.load(savePath, players);
+        WorldJournal journal = new WorldJournal(manager, savePath);
+        journal.saveSize = Files.size(savePath);
+        journal.replay(players);
+        manager.setWorldJournal(journal);
+        return journal;
+    }
+
+    /**
+     * Folds the journal into a new base save and restarts it. Happens automatically once the
+     * journal grows larger than the save; the save is replaced before the journal is reset,
+     * so a crash in between leaves a stale journal that the next open discards.
+     */
+    public synchronized void compact() throws IOException {
+        Map<Player, Integer> playerIds = new IdentityHashMap<>();
+        WorldSave.save(manager, savePath, playerIds);
+        saveSize = Files.size(savePath);
+        resetJournal(manager.getCurrentYear());
+        marks = Marks.of(manager, playerIds, playerIds.size());
+    }
+
+    // Appends everything that changed since the last checkpoint; LeagueManager calls this after every year
+    synchronized void checkpoint() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+            Marks next = writeFrame(new DataOutputStream(bytes));
+            appendFrame(bytes.toByteArray());
+            marks = next;
+            if (channel.size() > saveSize) {
+                compact();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write world journal " + journalPath, e);
+        }
+    }
+
+    private Marks writeFrame(DataOutputStream out) throws IOException {
+        Marks next = new Marks();
+        next.nextPlayerId = marks.nextPlayerId;
+        WorldSave.Writer writer = new WorldSave.Writer(out, next.playerIds);
+
+        out.writeInt(manager.getCurrentYear());
+        out.writeByte(manager.getCurrentSplit().ordinal());
+        writer.writeSettings(manager.getSettings());
+        out.writeLong(manager.getNameGenerator().getGeneratedCount());
+
+        List<Team> teams = teamsOf(manager);
+        List<Player> added = new ArrayList<>();
+        List<Player> changed = new ArrayList<>();
+        for (Player player : playersOf(manager, teams)) {
+            PlayerMark mark = marks.players.get(player);
+            if (mark == null) {
+                mark = new PlayerMark(next.nextPlayerId++, player);
+                added.add(player);
+            } else if (mark.changes(player) != 0) {
+                changed.add(player);
+            }
+            next.playerIds.put(player, mark.id);
+            // Retired players are no longer listed, so their marks drop out here
+            next.players.put(player, mark);
+        }
+
+        out.writeInt(added.size());
+        for (Player player : added) writer.writePlayer(player);
+        out.writeInt(changed.size());
+        for (Player player : changed) {
+            PlayerMark mark = marks.players.get(player);
+            int mask = mark.changes(player);
+            out.writeInt(mark.id);
+            out.writeByte(mask);
+            writer.writePlayerState(player.getState(), (mask & PLAYER_ATTRIBUTES) != 0, (mask & PLAYER_CONTRACT) != 0);
+            if ((mask & PLAYER_STATISTICS) != 0) writer.writePlayerStatistics(player.getStatistics());
+            if ((mask & PLAYER_MASTERY) != 0) writer.writeChampionMastery(player.getChampionMastery());
+            next.players.put(player, new PlayerMark(mark.id, player));
+        }
+
+        List<Team> changedTeams = new ArrayList<>();
+        for (Team team : teams) {
+            TeamMark mark = marks.teams.get(team);
+            if (mark == null) {
+                throw new IllegalStateException(team.getName() + " was not part of the saved world");
+            }
+            if (mark.changes(team) != 0) {
+                changedTeams.add(team);
+                mark = new TeamMark(team);
+            }
+            next.teams.put(team, mark);
+        }
+        out.writeInt(changedTeams.size());
+        for (Team team : changedTeams) {
+            int mask = marks.teams.get(team).changes(team);
+            out.writeInt(team.getId());
+            out.writeByte(mask);
+            if ((mask & TEAM_DETAILS) != 0) {
+                out.writeByte(team.getLeague().ordinal());
+                out.writeInt(team.getBudget());
+                out.writeBoolean(team.isActive());
+            }
+            if ((mask & TEAM_MEMBERSHIP) != 0) writer.writeMembership(team);
+            if ((mask & TEAM_STATISTICS) != 0) writer.writeTeamTotals(team.getStatistics());
+            if ((mask & TEAM_METRICS) != 0) writer.writeTeamMetrics(team.getStatistics());
+        }
+
+        out.writeInt(manager.getRegionalLeagues().size());
+        for (RegionalLeague league : manager.getRegionalLeagues().values()) {
+            List<SplitHistory> history = league.getHistory();
+            // Everything after the last journaled split is new; if that split was evicted, all of it is
+            SplitHistory last = marks.lastSplits.get(league.getRegion());
+            int from = last == null ? 0 : history.indexOf(last) + 1;
+            writer.writeRegion(league, history.subList(from, history.size()));
+            next.lastSplits.put(league.getRegion(), history.isEmpty() ? null : history.get(history.size() - 1));
+        }
+
+        writer.writePlayers(manager.getFreeAgents());
+
+        List<Tournament> tournaments = manager.getInternationalTournaments();
+        out.writeInt(tournaments.size() - marks.tournaments);
+        for (Tournament tournament : tournaments.subList(marks.tournaments, tournaments.size())) {
+            writer.writeTournament(tournament);
+        }
+        next.tournaments = tournaments.size();
+
+        List<LeagueManager.StatisticsManager.YearlyStatistics> years =
+                manager.getStatisticsManager().getAllYearlyStatistics();
+        out.writeInt(years.size() - marks.years);
+        for (LeagueManager.StatisticsManager.YearlyStatistics stats : years.subList(marks.years, years.size())) {
+            writer.writeYear(stats);
+        }
+        next.years = years.size();
+
+        out.flush();
+        return next;
+    }
+
+    private void appendFrame(byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + payload.length);
+        frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        long position = channel.size();
+        while (frame.hasRemaining()) {
+            position += channel.write(frame, position);
+        }
+        channel.force(false);
+    }
+
+    private void replay(List<Player> players) throws IOException {
+        int baseYear = manager.getCurrentYear();
+        byte[] journal = Files.exists(journalPath) ? Files.readAllBytes(journalPath) : new byte[0];
+        ByteBuffer buffer = ByteBuffer.wrap(journal);
+        boolean current = false;
+        if (journal.length > 0) {
+            if (journal.length < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a MOBAGM journal: " + journalPath);
+            }
+            int version = buffer.getInt(4);
+            if (version != VERSION) {
+                throw new IOException("Unsupported journal version " + version + " (expected " + VERSION + "): " + journalPath);
+            }
+            current = buffer.getInt(8) == baseYear;
+        }
+
+        if (!current) {
+            // Missing, or left over from before the save was last rewritten
+            resetJournal(baseYear);
+        } else {
+            Map<Integer, Team> teams = new HashMap<>();
+            for (Team team : teamsOf(manager)) teams.put(team.getId(), team);
+
+            int position = HEADER_SIZE;
+            CRC32 crc = new CRC32();
+            while (journal.length - position >= FRAME_HEADER_SIZE) {
+                int length = buffer.getInt(position);
+                int checksum = buffer.getInt(position + 4);
+                if (length < 0 || length > journal.length - position - FRAME_HEADER_SIZE) break;
+                crc.reset();
+                crc.update(journal, position + FRAME_HEADER_SIZE, length);
+                if ((int) crc.getValue() != checksum) break;
+
+                DataInputStream in = new DataInputStream(
+                        new ByteArrayInputStream(journal, position + FRAME_HEADER_SIZE, length));
+                applyFrame(new WorldSave.Reader(in, manager, teams, players), in, players);
+                framesReplayed++;
+                position += FRAME_HEADER_SIZE + length;
+            }
+
+            channel = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            // Drop a frame torn by a crash so new frames follow the last complete one
+            channel.truncate(position);
+        }
+
+        Map<Player, Integer> playerIds = new IdentityHashMap<>();
+        for (int i = 0; i < players.size(); i++) playerIds.put(players.get(i), i);
+        marks = Marks.of(manager, playerIds, players.size());
+    }
+
+    private void applyFrame(WorldSave.Reader reader, DataInputStream in, List<Player> players) throws IOException {
+        int year = in.readInt();
+        Split split = SPLITS[in.readByte()];
+        reader.readSettings(manager.getSettings());
+
+        manager.getNameGenerator().restore(in.readLong());
+        int added = in.readInt();
+        for (int i = 0; i < added; i++) players.add(reader.readPlayer());
+
+        int changed = in.readInt();
+        for (int i = 0; i < changed; i++) {
+            Player player = reader.player(in.readInt());
+            int mask = in.readByte();
+            boolean attributes = (mask & PLAYER_ATTRIBUTES) != 0;
+            boolean contract = (mask & PLAYER_CONTRACT) != 0;
+            if (attributes || contract) {
+                player.restoreState(reader.readPlayerState(player.getState(), attributes, contract));
+            }
+            if ((mask & PLAYER_STATISTICS) != 0) reader.readPlayerStatistics(player.getStatistics());
+            if ((mask & PLAYER_MASTERY) != 0) reader.readChampionMastery(player.getChampionMastery());
+        }
+
+        int changedTeams = in.readInt();
+        for (int i = 0; i < changedTeams; i++) {
+            Team team = reader.team(in.readInt());
+            int mask = in.readByte();
+            if ((mask & TEAM_DETAILS) != 0) {
+                team.setLeague(LEAGUES[in.readByte()]);
+                team.setBudget(in.readInt());
+                team.setActive(in.readBoolean());
+            }
+            if ((mask & TEAM_MEMBERSHIP) != 0) reader.readMembership(team);
+            if ((mask & TEAM_STATISTICS) != 0) reader.readTeamTotals(team.getStatistics());
+            if ((mask & TEAM_METRICS) != 0) reader.readTeamMetrics(team.getStatistics());
+        }
+
+        int regions = in.readInt();
+        for (int i = 0; i < regions; i++) {
+            reader.readRegion(manager.getRegionalLeagues().get(REGIONS[in.readByte()]));
+        }
+
+        List<Player> freeAgents = reader.readPlayers();
+        List<Tournament> tournaments = new ArrayList<>();
+        int tournamentCount = in.readInt();
+        for (int i = 0; i < tournamentCount; i++) tournaments.add(reader.readTournament());
+        manager.restoreWorld(year, split, List.of(), freeAgents, tournaments);
+
+        int years = in.readInt();
+        for (int i = 0; i < years; i++) reader.readYear(manager.getStatisticsManager());
+    }
+
+    // Replaces the journal with an empty one for the given base year, atomically where possible
+    private void resetJournal(int baseYear) throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putInt(baseYear).flip();
+        Path temp = Files.createTempFile(journalPath.toAbsolutePath().getParent(),
+                journalPath.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (header.hasRemaining()) {
+                    out.write(header);
+                }
+                out.force(true);
+            }
+            WorldSave.moveIntoPlace(temp, journalPath);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        channel = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    // Stops journaling; the save and journal on disk stay valid for a later open
+    @Override
+    public synchronized void close() throws IOException {
+        if (manager.getWorldJournal() == this) {
+            manager.setWorldJournal(null);
+        }
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+            channel = null;
+        }
+    }
+
+    public LeagueManager getManager() { return manager; }
+    public Path getSavePath() { return savePath; }
+    public Path getJournalPath() { return journalPath; }
+    public int getFramesReplayed() { return framesReplayed; }
+
+    public synchronized long getJournalSize() throws IOException {
+        return channel == null ? 0 : channel.size();
+    }
+
+    // Same team and player order as WorldSave
+    private static List<Team> teamsOf(LeagueManager manager) {
+        List<Team> teams = new ArrayList<>();
+        for (RegionalLeague league : manager.getRegionalLeagues().values()) {
+            teams.addAll(league.getChampionsTeams());
+            teams.addAll(league.getChallengersTeams());
+        }
+        return teams;
+    }
+
+    private static List<Player> playersOf(LeagueManager manager, List<Team> teams) {
+        List<Player> players = new ArrayList<>();
+        for (Team team : teams) {
+            players.addAll(team.getRoster().values());
+            players.addAll(team.getBench());
+            players.addAll(team.getAcademy());
+        }
+        players.addAll(manager.getFreeAgents());
+        return players;
+    }
+
+    // What the save plus journal hold for the live world, to tell what changed since
+    private static final class Marks {
+        final Map<Player, Integer> playerIds = new IdentityHashMap<>();
+        final Map<Player, PlayerMark> players = new IdentityHashMap<>();
+        final Map<Team, TeamMark> teams = new IdentityHashMap<>();
+        final Map<Region, SplitHistory> lastSplits = new EnumMap<>(Region.class);
+        int nextPlayerId;
+        int tournaments;
+        int years;
+
+        static Marks of(LeagueManager manager, Map<Player, Integer> playerIds, int nextPlayerId) {
+            Marks marks = new Marks();
+            List<Team> teams = teamsOf(manager);
+            for (Player player : playersOf(manager, teams)) {
+                int id = playerIds.get(player);
+                marks.playerIds.put(player, id);
+                marks.players.put(player, new PlayerMark(id, player));
+            }
+            for (Team team : teams) marks.teams.put(team, new TeamMark(team));
+            for (RegionalLeague league : manager.getRegionalLeagues().values()) {
+                List<SplitHistory> history = league.getHistory();
+                marks.lastSplits.put(league.getRegion(), history.isEmpty() ? null : history.get(history.size() - 1));
+            }
+            marks.nextPlayerId = nextPlayerId;
+            marks.tournaments = manager.getInternationalTournaments().size();
+            marks.years = manager.getStatisticsManager().getAllYearlyStatistics().size();
+            return marks;
+        }
+    }
+
+    /**
+     * A player as last journaled. Player caches an immutable PlayerState until something
+     * changes, so an unchanged player hands back the very same state object. Statistics only
+     * move through games played and the award counters, and champion mastery counts its own
+     * changes.
+     */
+    private static final class PlayerMark {
+        final int id;
+        final PlayerState state;
+        final int games;
+        final int appearances;
+        final int mvpAwards;
+        final double clutch;
+        final int masteryChanges;
+
+        PlayerMark(int id, Player player) {
+            this.id = id;
+            this.state = player.getState();
+            PlayerStatistics stats = player.getStatistics();
+            this.games = stats.getGamesPlayed();
+            this.appearances = stats.getInternationalAppearances();
+            this.mvpAwards = stats.getMvpAwards();
+            this.clutch = stats.getClutchPerformance();
+            this.masteryChanges = player.getChampionMastery().getChangeCount();
+        }
+
+        int changes(Player player) {
+            int mask = 0;
+            PlayerState now = player.getState();
+            if (now != state) {
+                if (now.getAge() != state.getAge() || now.getMechanical() != state.getMechanical()
+                        || now.getStrategic() != state.getStrategic() || now.getSoftSkill() != state.getSoftSkill()
+                        || now.getOverall() != state.getOverall() || now.getPotential() != state.getPotential()
+                        || now.getTraits() != state.getTraits()) {
+                    mask |= PLAYER_ATTRIBUTES;
+                }
+                if (now.getTeam() != state.getTeam() || now.getSalary() != state.getSalary()
+                        || now.getContractLength() != state.getContractLength() || now.isRetired() != state.isRetired()) {
+                    mask |= PLAYER_CONTRACT;
+                }
+            }
+            PlayerStatistics stats = player.getStatistics();
+            if (stats.getGamesPlayed() != games || stats.getInternationalAppearances() != appearances
+                    || stats.getMvpAwards() != mvpAwards || stats.getClutchPerformance() != clutch) {
+                mask |= PLAYER_STATISTICS;
+            }
+            if (player.getChampionMastery().getChangeCount() != masteryChanges) {
+                mask |= PLAYER_MASTERY;
+            }
+            return mask;
+        }
+    }
+
+    // A team as last journaled; split records only change along with games played
+    private static final class TeamMark {
+        final TeamState state;
+        final boolean active;
+        final int games;
+        final int championships;
+        final int appearances;
+        final Map<String, Double> metrics;
+
+        TeamMark(Team team) {
+            this.state = team.getState();
+            this.active = team.isActive();
+            TeamStatistics stats = team.getStatistics();
+            this.games = stats.getGamesPlayed();
+            this.championships = stats.getChampionshipsWon();
+            this.appearances = stats.getInternationalAppearances();
+            this.metrics = Map.copyOf(stats.getPerformanceMetrics());
+        }
+
+        int changes(Team team) {
+            int mask = 0;
+            TeamState now = team.getState();
+            if (now != state) {
+                if (now.getLeague() != state.getLeague() || now.getBudget() != state.getBudget()) {
+                    mask |= TEAM_DETAILS;
+                }
+                if (!now.getRoster().equals(state.getRoster()) || !now.getBench().equals(state.getBench())
+                        || !now.getAcademy().equals(state.getAcademy())) {
+                    mask |= TEAM_MEMBERSHIP;
+                }
+            }
+            if (team.isActive() != active) {
+                mask |= TEAM_DETAILS;
+            }
+            TeamStatistics stats = team.getStatistics();
+            if (stats.getGamesPlayed() != games || stats.getChampionshipsWon() != championships
+                    || stats.getInternationalAppearances() != appearances) {
+                mask |= TEAM_STATISTICS;
+            }
+            if (!stats.getPerformanceMetrics().equals(metrics)) {
+                mask |= TEAM_METRICS;
+            }
+            return mask;
+        }
+    }
+}
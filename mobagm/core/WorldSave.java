@@ -0,0 +1,681 @@
+// WorldSave.java
+package com.mobagm.core;
+
+import com.mobagm.core.Enums.*;
+import com.mobagm.core.LeagueManager.SimulationSettings;
+import com.mobagm.core.LeagueManager.StatisticsManager.YearlyStatistics;
+import com.mobagm.entities.*;
+import com.mobagm.leagues.RegionState;
+import com.mobagm.leagues.RegionalLeague;
+import com.mobagm.leagues.SplitHistory;
+import com.mobagm.simulation.MatchRecord;
+import com.mobagm.tournaments.SwissTournament;
+import com.mobagm.tournaments.Tournament;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Versioned binary save file for a whole world: settings, name generator position, teams,
+ * players, regional standings and history, free agents, tournament summaries and yearly
+ * statistics. Loading streams the file and rebuilds every object from the saved fields;
+ * nothing is regenerated, so names, attributes and RNG seeds come back exactly and a loaded
+ * world continues the same way the saved one would have. Logos are not stored; teams derive
+ * them from name and region on first use.
+ *
+ * Sections are written in a fixed order after a magic number and format version. Teams are
+ * referred to by id and players by their position in the player table. Saves are written
+ * to a temporary file, forced to disk and moved into place, so a crash never leaves a
+ * half-written save.
+ *
+ * Only worlds between splits can be saved; live match detail and the match archive are
+ * not part of the file.
+ */
+final class WorldSave {
+    private static final int MAGIC = 0x4D474D57; // "MGMW"
+    static final int VERSION = 5;
+
+    private static final Region[] REGIONS = Region.values();
+    private static final Split[] SPLITS = Split.values();
+    private static final Role[] ROLES = Role.values();
+    private static final League[] LEAGUES = League.values();
+
+    private WorldSave() {
+    }
+
+    static void save(LeagueManager manager, Path path) throws IOException {
+        save(manager, path, new IdentityHashMap<>());
+    }
+
+    // Also reports each saved player's position in the file's player table
+    static void save(LeagueManager manager, Path path, Map<Player, Integer> playerIndex) throws IOException {
+        for (RegionalLeague league : manager.getRegionalLeagues().values()) {
+            if (league.getRoundsPlayed() > 0) {
+                throw new IllegalStateException("Cannot save while the " + league.getRegion() + " split is in progress");
+            }
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16))) {
+                new Writer(out, playerIndex).write(manager);
+                out.flush();
+                channel.force(true);
+            }
+            moveIntoPlace(temp, path);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Renames a written and forced temp file over path, then syncs the directory so the rename
+    // itself survives a crash; shared with WorldJournal
+    static void moveIntoPlace(Path temp, Path path) throws IOException {
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        try (FileChannel directory = FileChannel.open(path.toAbsolutePath().getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            // Some platforms, Windows among them, cannot open a directory; the move has still happened
+        }
+    }
+
+    static LeagueManager load(Path path) throws IOException {
+        return load(path, new ArrayList<>());
+    }
+
+    // Also fills players with the file's player table, in order
+    static LeagueManager load(Path path, List<Player> players) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a MOBAGM save file: " + path);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported save file version " + version + " (expected " + VERSION + "): " + path);
+            }
+            return new Reader(in, null, new HashMap<>(), players).read();
+        } catch (EOFException e) {
+            throw new IOException("Truncated save file: " + path, e);
+        }
+    }
+
+    /**
+     * Encodes a world section by section. The record methods are shared with WorldJournal,
+     * which writes the same records for whatever changed since its last checkpoint.
+     */
+    static final class Writer {
+        private final DataOutputStream out;
+        private final Map<Player, Integer> playerIndex;
+
+        Writer(DataOutputStream out, Map<Player, Integer> playerIndex) {
+            this.out = out;
+            this.playerIndex = playerIndex;
+        }
+
+        void write(LeagueManager manager) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(manager.getWorldSeed());
+            out.writeInt(manager.getCurrentYear());
+            out.writeByte(manager.getCurrentSplit().ordinal());
+            writeSettings(manager.getSettings());
+
+            out.writeLong(manager.getNameGenerator().getGeneratedCount());
+
+            List<Team> teams = new ArrayList<>();
+            for (RegionalLeague league : manager.getRegionalLeagues().values()) {
+                teams.addAll(league.getChampionsTeams());
+                teams.addAll(league.getChallengersTeams());
+            }
+            List<Player> players = new ArrayList<>();
+            for (Team team : teams) {
+                players.addAll(team.getRoster().values());
+                players.addAll(team.getBench());
+                players.addAll(team.getAcademy());
+            }
+            players.addAll(manager.getFreeAgents());
+
+            out.writeInt(teams.size());
+            for (Team team : teams) writeTeam(team);
+
+            out.writeInt(players.size());
+            for (Player player : players) {
+                if (playerIndex.putIfAbsent(player, playerIndex.size()) == null) {
+                    writePlayer(player);
+                } else {
+                    throw new IllegalStateException(player.getName() + " is listed twice");
+                }
+            }
+
+            for (Team team : teams) writeMembership(team);
+
+            out.writeInt(manager.getRegionalLeagues().size());
+            for (RegionalLeague league : manager.getRegionalLeagues().values()) writeRegion(league, league.getHistory());
+
+            out.writeInt(manager.getFreeAgents().size());
+            for (Player player : manager.getFreeAgents()) out.writeInt(playerIndex.get(player));
+
+            out.writeInt(manager.getInternationalTournaments().size());
+            for (Tournament tournament : manager.getInternationalTournaments()) writeTournament(tournament);
+
+            List<YearlyStatistics> years = manager.getStatisticsManager().getAllYearlyStatistics();
+            out.writeInt(years.size());
+            for (YearlyStatistics stats : years) writeYear(stats);
+        }
+
+        void writeSettings(SimulationSettings settings) throws IOException {
+            out.writeBoolean(settings.isAutoAdvance());
+            out.writeInt(settings.getSimulationSpeed());
+            out.writeBoolean(settings.isEnablePromotionRelegation());
+            out.writeBoolean(settings.isEnableInternationalTournaments());
+            out.writeBoolean(settings.isEnableAllStarEvents());
+            out.writeBoolean(settings.isEnablePlayerDevelopment());
+            out.writeInt(settings.getDetailedHistorySplits());
+            out.writeInt(settings.getRecordedHistorySplits());
+        }
+
+        private void writeTeam(Team team) throws IOException {
+            out.writeInt(team.getId());
+            writeString(team.getName());
+            out.writeByte(team.getRegion().ordinal());
+            out.writeByte(team.getLeague().ordinal());
+            out.writeInt(team.getBudget());
+            writeString(team.getCoach());
+            out.writeBoolean(team.isActive());
+            writeTeamStatistics(team.getStatistics());
+        }
+
+        void writeTeamStatistics(TeamStatistics stats) throws IOException {
+            writeTeamTotals(stats);
+            writeTeamMetrics(stats);
+        }
+
+        // Results and split records; the performance metrics are written separately
+        void writeTeamTotals(TeamStatistics stats) throws IOException {
+            out.writeInt(stats.getGamesPlayed());
+            out.writeInt(stats.getWins());
+            out.writeInt(stats.getLosses());
+            out.writeDouble(stats.getAverageGameTime());
+            out.writeInt(stats.getTotalKills());
+            out.writeInt(stats.getTotalDeaths());
+            out.writeInt(stats.getChampionshipsWon());
+            out.writeInt(stats.getInternationalAppearances());
+            out.writeInt(stats.getSplitRecords().size());
+            for (Map.Entry<String, Integer> e : stats.getSplitRecords().entrySet()) {
+                writeString(e.getKey());
+                out.writeInt(e.getValue());
+            }
+        }
+
+        void writeTeamMetrics(TeamStatistics stats) throws IOException {
+            out.writeInt(stats.getPerformanceMetrics().size());
+            for (Map.Entry<String, Double> e : stats.getPerformanceMetrics().entrySet()) {
+                writeString(e.getKey());
+                out.writeDouble(e.getValue());
+            }
+        }
+
+        void writePlayer(Player player) throws IOException {
+            out.writeInt(player.getId());
+            out.writeLong(player.getNameCode());
+            out.writeByte(player.getRole().ordinal());
+            out.writeLong(player.getSeed());
+            out.writeDouble(player.getPeakAge());
+            out.writeDouble(player.getDeclineRate());
+            out.writeDouble(player.getGrowthRate());
+            writePlayerState(player.getState(), true, true);
+            writePlayerStatistics(player.getStatistics());
+            writeChampionMastery(player.getChampionMastery());
+        }
+
+        // Attributes are age, ratings and traits; the contract is team, salary, length and retirement
+        void writePlayerState(PlayerState state, boolean attributes, boolean contract) throws IOException {
+            if (attributes) {
+                out.writeInt(state.getAge());
+                out.writeDouble(state.getMechanical());
+                out.writeDouble(state.getStrategic());
+                out.writeDouble(state.getSoftSkill());
+                out.writeDouble(state.getOverall());
+                out.writeDouble(state.getPotential());
+                out.writeLong(state.getTraits());
+            }
+            if (contract) {
+                out.writeInt(state.getTeam() == null ? 0 : state.getTeam().getId());
+                out.writeInt(state.getSalary());
+                out.writeInt(state.getContractLength());
+                out.writeBoolean(state.isRetired());
+            }
+        }
+
+        void writePlayerStatistics(PlayerStatistics stats) throws IOException {
+            out.writeInt(stats.getGamesPlayed());
+            out.writeInt(stats.getWins());
+            out.writeInt(stats.getLosses());
+            out.writeDouble(stats.getAveragePerformance());
+            out.writeInt(stats.getKills());
+            out.writeInt(stats.getDeaths());
+            out.writeInt(stats.getAssists());
+            out.writeInt(stats.getMvpAwards());
+            out.writeInt(stats.getInternationalAppearances());
+            out.writeDouble(stats.getClutchPerformance());
+        }
+
+        void writeChampionMastery(ChampionMastery mastery) throws IOException {
+            out.writeByte(mastery.size());
+            for (int i = 0; i < mastery.size(); i++) {
+                out.writeShort(mastery.getChampionId(i));
+                out.writeFloat(mastery.getPoints(i));
+            }
+        }
+
+        void writeMembership(Team team) throws IOException {
+            for (Role role : ROLES) {
+                Player player = team.getRoster().get(role);
+                out.writeInt(player == null ? -1 : playerIndex.get(player));
+            }
+            writePlayers(team.getBench());
+            writePlayers(team.getAcademy());
+        }
+
+        void writePlayers(List<Player> players) throws IOException {
+            out.writeInt(players.size());
+            for (Player player : players) out.writeInt(playerIndex.get(player));
+        }
+
+        // Standings and running totals, followed by the given split history entries
+        void writeRegion(RegionalLeague league, List<SplitHistory> history) throws IOException {
+            RegionState state = league.getState();
+            out.writeByte(league.getRegion().ordinal());
+            out.writeInt(state.getYear());
+            out.writeByte(state.getSplit().ordinal());
+            writeTeams(state.getChampionsTeams());
+            writeTeams(state.getChallengersTeams());
+            for (Team team : state.getChampionsTeams()) {
+                out.writeInt(state.getWins(team));
+                out.writeInt(state.getLosses(team));
+            }
+            for (Team team : state.getChallengersTeams()) {
+                out.writeInt(state.getWins(team));
+                out.writeInt(state.getLosses(team));
+            }
+
+            out.writeInt(league.getSplitWinner() == null ? 0 : league.getSplitWinner().getId());
+            out.writeLong(league.getMatchesPlayed());
+            out.writeLong(league.getGamesPlayed());
+            out.writeDouble(league.getTotalGameTime());
+
+            out.writeInt(history.size());
+            for (SplitHistory split : history) {
+                out.writeInt(split.getYear());
+                out.writeByte(split.getSplit().ordinal());
+                out.writeInt(split.getWinnerId());
+                writeRecords(split.getRegularSeason());
+                writeRecords(split.getPlayoffs());
+            }
+        }
+
+        void writeTeams(List<Team> teams) throws IOException {
+            out.writeInt(teams.size());
+            for (Team team : teams) out.writeInt(team.getId());
+        }
+
+        void writeTournament(Tournament tournament) throws IOException {
+            writeString(tournament.getName());
+            out.writeInt(tournament.getTotalRounds());
+            out.writeLong(tournament.getSeed());
+            writeTeams(tournament.getParticipants());
+            for (Team team : tournament.getParticipants()) {
+                out.writeInt(tournament.getStandings().getOrDefault(team, 0));
+            }
+            out.writeInt(tournament.getWinner() == null ? 0 : tournament.getWinner().getId());
+            writeRecords(tournament.getMatchRecords());
+        }
+
+        void writeYear(YearlyStatistics stats) throws IOException {
+            out.writeInt(stats.getYear());
+            out.writeInt(stats.getRegionalChampions().size());
+            for (Map.Entry<Region, Team> e : stats.getRegionalChampions().entrySet()) {
+                out.writeByte(e.getKey().ordinal());
+                out.writeInt(e.getValue().getId());
+            }
+            out.writeInt(stats.getMsiChampion() == null ? 0 : stats.getMsiChampion().getId());
+            out.writeInt(stats.getWorldsChampion() == null ? 0 : stats.getWorldsChampion().getId());
+            out.writeInt(stats.getTotalMatches());
+            out.writeInt(stats.getTotalGames());
+            out.writeDouble(stats.getAverageGameTime());
+        }
+
+        private void writeRecords(List<MatchRecord> records) throws IOException {
+            out.writeInt(records.size());
+            for (MatchRecord record : records) {
+                out.writeInt(record.getTeam1Id());
+                out.writeInt(record.getTeam2Id());
+                out.writeLong(record.getMatchKey());
+                out.writeByte(record.getGameCount());
+                for (int g = 0; g < record.getGameCount(); g++) {
+                    out.writeByte(record.getGameWinnerSide(g));
+                    out.writeFloat((float) record.getGameTime(g));
+                    out.writeShort(record.getTeam1Kills(g));
+                    out.writeShort(record.getTeam2Kills(g));
+                }
+            }
+        }
+
+        // Length-prefixed UTF-8; unlike writeUTF, not limited to 64 KB
+        private void writeString(String s) throws IOException {
+            byte[] bytes = s == null ? null : s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes == null ? -1 : bytes.length);
+            if (bytes != null) out.write(bytes);
+        }
+    }
+
+    /**
+     * Decodes what Writer wrote. Teams and players already known to the reader are updated in
+     * place, which is how WorldJournal replays its records on top of a loaded save.
+     */
+    static final class Reader {
+        private final DataInputStream in;
+        // The world players are restored into; read() creates it
+        private LeagueManager manager;
+        private final Map<Integer, Team> teams;
+        private final List<Team> teamOrder = new ArrayList<>();
+        private final List<Player> players;
+
+        Reader(DataInputStream in, LeagueManager manager, Map<Integer, Team> teams, List<Player> players) {
+            this.in = in;
+            this.manager = manager;
+            this.teams = teams;
+            this.players = players;
+        }
+
+        LeagueManager read() throws IOException {
+            manager = LeagueManager.empty(in.readLong());
+            int year = in.readInt();
+            Split split = SPLITS[in.readByte()];
+            readSettings(manager.getSettings());
+
+            manager.getNameGenerator().restore(in.readLong());
+
+            int teamCount = in.readInt();
+            for (int i = 0; i < teamCount; i++) readTeam();
+
+            int playerCount = in.readInt();
+            for (int i = 0; i < playerCount; i++) players.add(readPlayer());
+
+            for (Team team : teamOrder) readMembership(team);
+
+            int regionCount = in.readInt();
+            List<RegionalLeague> leagues = new ArrayList<>(regionCount);
+            for (int i = 0; i < regionCount; i++) {
+                RegionalLeague league = new RegionalLeague(REGIONS[in.readByte()], manager);
+                readRegion(league);
+                leagues.add(league);
+            }
+
+            List<Player> freeAgents = readPlayers();
+
+            List<Tournament> tournaments = new ArrayList<>();
+            int tournamentCount = in.readInt();
+            for (int i = 0; i < tournamentCount; i++) tournaments.add(readTournament());
+
+            manager.restoreWorld(year, split, leagues, freeAgents, tournaments);
+
+            int yearCount = in.readInt();
+            for (int i = 0; i < yearCount; i++) readYear(manager.getStatisticsManager());
+            return manager;
+        }
+
+        void readSettings(SimulationSettings settings) throws IOException {
+            settings.setAutoAdvance(in.readBoolean());
+            settings.setSimulationSpeed(in.readInt());
+            settings.setEnablePromotionRelegation(in.readBoolean());
+            settings.setEnableInternationalTournaments(in.readBoolean());
+            settings.setEnableAllStarEvents(in.readBoolean());
+            settings.setEnablePlayerDevelopment(in.readBoolean());
+            settings.setDetailedHistorySplits(in.readInt());
+            settings.setRecordedHistorySplits(in.readInt());
+        }
+
+        private void readTeam() throws IOException {
+            int id = in.readInt();
+            String name = readString();
+            Region region = REGIONS[in.readByte()];
+            League league = LEAGUES[in.readByte()];
+            int budget = in.readInt();
+            String coach = readString();
+            Team team = Team.restore(id, name, region, league, budget, coach);
+            team.setRankings(manager.getPlayerRankings());
+            team.setActive(in.readBoolean());
+            readTeamStatistics(team.getStatistics());
+
+            teams.put(id, team);
+            teamOrder.add(team);
+        }
+
+        void readTeamStatistics(TeamStatistics stats) throws IOException {
+            readTeamTotals(stats);
+            readTeamMetrics(stats);
+        }
+
+        void readTeamTotals(TeamStatistics stats) throws IOException {
+            int games = in.readInt();
+            int wins = in.readInt();
+            int losses = in.readInt();
+            double averageGameTime = in.readDouble();
+            int kills = in.readInt();
+            int deaths = in.readInt();
+            stats.restoreTotals(games, wins, losses, averageGameTime, kills, deaths);
+            stats.setChampionshipsWon(in.readInt());
+            stats.setInternationalAppearances(in.readInt());
+            stats.getSplitRecords().clear();
+            int splitRecords = in.readInt();
+            for (int i = 0; i < splitRecords; i++) stats.getSplitRecords().put(readString(), in.readInt());
+        }
+
+        void readTeamMetrics(TeamStatistics stats) throws IOException {
+            stats.getPerformanceMetrics().clear();
+            int metrics = in.readInt();
+            for (int i = 0; i < metrics; i++) stats.getPerformanceMetrics().put(readString(), in.readDouble());
+        }
+
+        Player readPlayer() throws IOException {
+            int id = in.readInt();
+            long name = in.readLong();
+            Role role = ROLES[in.readByte()];
+            long seed = in.readLong();
+            double peakAge = in.readDouble();
+            double declineRate = in.readDouble();
+            double growthRate = in.readDouble();
+            PlayerState state = readPlayerState(null, true, true);
+
+            Player player = Player.restore(manager.getPlayerStore(), id, name, role, seed, peakAge, declineRate,
+                    growthRate, state);
+            readPlayerStatistics(player.getStatistics());
+            readChampionMastery(player.getChampionMastery());
+            return player;
+        }
+
+        // Reads the groups writePlayerState wrote; groups not read are kept from base
+        PlayerState readPlayerState(PlayerState base, boolean attributes, boolean contract) throws IOException {
+            int age = attributes ? in.readInt() : base.getAge();
+            double mechanical = attributes ? in.readDouble() : base.getMechanical();
+            double strategic = attributes ? in.readDouble() : base.getStrategic();
+            double softSkill = attributes ? in.readDouble() : base.getSoftSkill();
+            double overall = attributes ? in.readDouble() : base.getOverall();
+            double potential = attributes ? in.readDouble() : base.getPotential();
+            long traits = attributes ? in.readLong() : base.getTraits();
+            Team team = contract ? team(in.readInt()) : base.getTeam();
+            int salary = contract ? in.readInt() : base.getSalary();
+            int contractLength = contract ? in.readInt() : base.getContractLength();
+            boolean retired = contract ? in.readBoolean() : base.isRetired();
+
+            return PlayerState.of(age, mechanical, strategic, softSkill, overall, potential, traits,
+                    team, salary, contractLength, retired);
+        }
+
+        void readPlayerStatistics(PlayerStatistics stats) throws IOException {
+            int games = in.readInt();
+            int wins = in.readInt();
+            int losses = in.readInt();
+            double averagePerformance = in.readDouble();
+            int kills = in.readInt();
+            int deaths = in.readInt();
+            int assists = in.readInt();
+            stats.restoreTotals(games, wins, losses, averagePerformance, kills, deaths, assists);
+            stats.setMvpAwards(in.readInt());
+            stats.setInternationalAppearances(in.readInt());
+            stats.setClutchPerformance(in.readDouble());
+        }
+
+        void readChampionMastery(ChampionMastery mastery) throws IOException {
+            int size = in.readUnsignedByte();
+            int[] champions = new int[size];
+            float[] points = new float[size];
+            for (int i = 0; i < size; i++) {
+                champions[i] = in.readUnsignedShort();
+                points[i] = in.readFloat();
+            }
+            mastery.restore(champions, points);
+        }
+
+        void readMembership(Team team) throws IOException {
+            Map<Role, Player> roster = new EnumMap<>(Role.class);
+            for (Role role : ROLES) {
+                int index = in.readInt();
+                if (index >= 0) roster.put(role, player(index));
+            }
+            List<Player> bench = readPlayers();
+            List<Player> academy = readPlayers();
+            team.restoreState(TeamState.of(team.getLeague(), team.getBudget(), roster, bench, academy));
+        }
+
+        List<Player> readPlayers() throws IOException {
+            int count = in.readInt();
+            List<Player> list = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) list.add(player(in.readInt()));
+            return list;
+        }
+
+        // Standings and totals replace the league's own; the split history read is appended to it
+        void readRegion(RegionalLeague league) throws IOException {
+            int year = in.readInt();
+            Split split = SPLITS[in.readByte()];
+            List<Team> champions = readTeams();
+            List<Team> challengers = readTeams();
+            RegionState state = RegionState.of(year, split, champions, challengers);
+            for (Team team : champions) state = state.withRecord(team, in.readInt(), in.readInt());
+            for (Team team : challengers) state = state.withRecord(team, in.readInt(), in.readInt());
+            league.restoreState(state);
+
+            Team splitWinner = team(in.readInt());
+            long matches = in.readLong();
+            long games = in.readLong();
+            double gameTime = in.readDouble();
+            int splits = in.readInt();
+            List<SplitHistory> history = new ArrayList<>(league.getHistory());
+            for (int i = 0; i < splits; i++) {
+                int historyYear = in.readInt();
+                Split historySplit = SPLITS[in.readByte()];
+                int winnerId = in.readInt();
+                List<MatchRecord> regular = readRecords();
+                List<MatchRecord> playoffs = readRecords();
+                history.add(new SplitHistory(league.getRegion(), historyYear, historySplit, winnerId, regular, playoffs));
+            }
+            league.restoreProgress(splitWinner, matches, games, gameTime, history);
+        }
+
+        private List<Team> readTeams() throws IOException {
+            int count = in.readInt();
+            List<Team> list = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) list.add(team(in.readInt()));
+            return list;
+        }
+
+        Tournament readTournament() throws IOException {
+            String name = readString();
+            Tournament tournament = new SwissTournament(name, in.readInt());
+            tournament.setSeed(in.readLong());
+            List<Team> participants = readTeams();
+            Map<Team, Integer> standings = new HashMap<>();
+            for (Team team : participants) {
+                tournament.addParticipant(team);
+                standings.put(team, in.readInt());
+            }
+            Team winner = team(in.readInt());
+            tournament.restoreResult(standings, winner, readRecords());
+            return tournament;
+        }
+
+        void readYear(LeagueManager.StatisticsManager statistics) throws IOException {
+            YearlyStatistics stats = statistics.startYear(in.readInt());
+            int champions = in.readInt();
+            for (int i = 0; i < champions; i++) {
+                Region region = REGIONS[in.readByte()];
+                stats.getRegionalChampions().put(region, team(in.readInt()));
+            }
+            stats.setMsiChampion(team(in.readInt()));
+            stats.setWorldsChampion(team(in.readInt()));
+            stats.setTotalMatches(in.readInt());
+            stats.setTotalGames(in.readInt());
+            stats.setAverageGameTime(in.readDouble());
+        }
+
+        private List<MatchRecord> readRecords() throws IOException {
+            int count = in.readInt();
+            List<MatchRecord> records = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int team1 = in.readInt();
+                int team2 = in.readInt();
+                long key = in.readLong();
+                int games = in.readByte();
+                byte[] winners = new byte[games];
+                float[] times = new float[games];
+                short[] kills1 = new short[games];
+                short[] kills2 = new short[games];
+                for (int g = 0; g < games; g++) {
+                    winners[g] = in.readByte();
+                    times[g] = in.readFloat();
+                    kills1[g] = in.readShort();
+                    kills2[g] = in.readShort();
+                }
+                records.add(new MatchRecord(team1, team2, key, winners, times, kills1, kills2));
+            }
+            return records;
+        }
+
+        // Id 0 means "no team"; any other unknown id is a corrupt file
+        Team team(int id) throws IOException {
+            if (id == 0) return null;
+            Team team = teams.get(id);
+            if (team == null) {
+                throw new IOException("Save file refers to unknown team " + id);
+            }
+            return team;
+        }
+
+        Player player(int index) throws IOException {
+            if (index < 0 || index >= players.size()) {
+                throw new IOException("Save file refers to unknown player " + index);
+            }
+            return players.get(index);
+        }
+
+        private String readString() throws IOException {
+            int length = in.readInt();
+            if (length < 0) return null;
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+// ChampionMastery.java
+package com.mobagm.entities;
+
+import java.util.Arrays;
+
+/**
+ * A player's mastery points per champion id, as a small sparse table. Each game adds points
+ * on the champion played; at the end of each year LeagueManager calls decay() for every
+ * rostered player and free agent, halving each entry and dropping forgotten champions. The table holds at most CAPACITY champions; a new champion past that replaces the
+ * one with the fewest points. Updates allocate only while the table is still growing to
+ * capacity.
+ */
+public final class ChampionMastery {
+    public static final int CAPACITY = 8;
+    private static final float YEARLY_DECAY = 0.5f;
+    private static final float FORGET_BELOW = 1.0f;
+
+    private short[] champions = new short[0];
+    // Floats are plenty for mastery and keep saves and journal frames small
+    private float[] points = new float[0];
+    private int size;
+    // Bumped on every change, so savers can tell whether anything moved since they last looked
+    private int changeCount;
+
+    public double get(int championId) {
+        int i = indexOf(championId);
+        return i < 0 ? 0.0 : points[i];
+    }
+
+    public void add(int championId, double amount) {
+        int i = indexOf(championId);
+        if (i < 0) {
+            i = slotForNewChampion();
+            champions[i] = (short) championId;
+            points[i] = 0.0f;
+        }
+        points[i] += (float) amount;
+        changeCount++;
+    }
+
+    public void decay() {
+        if (size == 0) return;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            float decayed = points[i] * YEARLY_DECAY;
+            if (decayed < FORGET_BELOW) continue;
+            champions[kept] = champions[i];
+            points[kept++] = decayed;
+        }
+        size = kept;
+        changeCount++;
+    }
+
+    private int indexOf(int championId) {
+        for (int i = 0; i < size; i++) {
+            if (champions[i] == championId) return i;
+        }
+        return -1;
+    }
+
+    private int slotForNewChampion() {
+        if (size < champions.length) return size++;
+        if (size < CAPACITY) {
+            int capacity = Math.min(CAPACITY, Math.max(4, size * 2));
+            champions = Arrays.copyOf(champions, capacity);
+            points = Arrays.copyOf(points, capacity);
+            return size++;
+        }
+        int weakest = 0;
+        for (int i = 1; i < size; i++) {
+            if (points[i] < points[weakest]) weakest = i;
+        }
+        return weakest;
+    }
+
+    // Replaces the whole table, e.g. when loading a saved world
+    public void restore(int[] championIds, float[] championPoints) {
+        size = 0;
+        for (int i = 0; i < championIds.length; i++) add(championIds[i], championPoints[i]);
+    }
+
+    // Entries in no particular order, for saving and display
+    public int size() { return size; }
+    public int getChampionId(int index) { return champions[index]; }
+    public float getPoints(int index) { return points[index]; }
+    public int getChangeCount() { return changeCount; }
+}
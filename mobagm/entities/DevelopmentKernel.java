@@ -0,0 +1,216 @@
+// DevelopmentKernel.java
+package com.mobagm.entities;
+
+import com.mobagm.core.Enums.PlayerTrait;
+import com.mobagm.core.RandomStream;
+import com.mobagm.core.SimulationRandom;
+import com.mobagm.core.SimulationRandom.Domain;
+import com.mobagm.entities.PlayerStore.Page;
+import java.util.Arrays;
+
+/**
+ * Ages and develops a batch of players in one pass. Callers add every player due to
+ * develop, then call run(). Each player ages a year, or retires if already 30; the others
+ * then move along their curve: growth towards the peak age and a quadratic decline after
+ * it, Gaussian noise on each attribute and a flat bonus for late bloomers past 25.
+ *
+ * run() works in three steps. A scalar gather reads ages, curves and trait bonuses from
+ * the PlayerStore pages and draws each player's noise from its own development stream;
+ * the attribute and overall update then runs over those primitive arrays; a scatter writes
+ * the results back. The update uses the incubating Vector API when VectorDevelopmentPass
+ * is on the class path and the jdk.incubator.vector module is present, and a scalar loop
+ * otherwise. The vector pass lives in the separate mobagm-vector source root, so the
+ * default build needs no incubator module; see the README for building it. Both evaluate
+ * the same operations in the same order, so results are identical on either path and to
+ * developing players one at a time.
+ *
+ * Not thread-safe; use one kernel per thread.
+ */
+public final class DevelopmentKernel {
+    static final int RETIREMENT_AGE = 30;
+    static final double MIN_ATTRIBUTE = 30;
+    static final double MAX_ATTRIBUTE = 100;
+    private static final int LATE_BLOOMER_AGE = 25;
+    private static final double LATE_BLOOMER_BONUS = 2;
+    private static final int DEFAULT_CAPACITY = 256;
+
+    // The attribute and overall update over the first count gathered players
+    interface Pass {
+        void apply(DevelopmentKernel kernel, int count);
+    }
+
+    private static final Pass SCALAR = DevelopmentKernel::applyScalar;
+    private static final Pass PASS = loadPass();
+
+    private Player[] players = new Player[DEFAULT_CAPACITY];
+    private int size;
+
+    // Gathered for the players that develop rather than retire; index j is developing[j]
+    private Player[] developing;
+    double[] mechanical;
+    double[] strategic;
+    double[] softSkill;
+    double[] overall;
+    // factor * 10 from the development curve
+    double[] growth;
+    double[] mechanicalNoise;
+    double[] strategicNoise;
+    double[] softSkillNoise;
+    double[] lateBloomerBonus;
+    double[] mechanicalBonus;
+    double[] strategicBonus;
+    double[] softSkillBonus;
+
+    private final RandomStream random = new RandomStream(0);
+
+    public DevelopmentKernel() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        developing = new Player[capacity];
+        mechanical = new double[capacity];
+        strategic = new double[capacity];
+        softSkill = new double[capacity];
+        overall = new double[capacity];
+        growth = new double[capacity];
+        mechanicalNoise = new double[capacity];
+        strategicNoise = new double[capacity];
+        softSkillNoise = new double[capacity];
+        lateBloomerBonus = new double[capacity];
+        mechanicalBonus = new double[capacity];
+        strategicBonus = new double[capacity];
+        softSkillBonus = new double[capacity];
+    }
+
+    private static Pass loadPass() {
+        try {
+            return (Pass) Class.forName("com.mobagm.entities.VectorDevelopmentPass")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // No jdk.incubator.vector module in this runtime
+            return SCALAR;
+        }
+    }
+
+    // True when run() updates attributes with the Vector API
+    public static boolean isVectorized() {
+        return PASS != SCALAR;
+    }
+
+    public void add(Player player) {
+        if (size == players.length) {
+            players = Arrays.copyOf(players, size * 2);
+        }
+        players[size++] = player;
+    }
+
+    public void addAll(Iterable<Player> players) {
+        for (Player player : players) add(player);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(players, 0, size, null);
+        size = 0;
+    }
+
+    // Develops every added player and clears the kernel
+    public void run() {
+        if (developing.length < size) {
+            allocate(players.length);
+        }
+        int count = gather();
+        PASS.apply(this, count);
+        scatter(count);
+        Arrays.fill(developing, 0, count, null);
+        clear();
+    }
+
+    private int gather() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            Player player = players[i];
+            Page page = player.page();
+            int slot = player.slot();
+            int age = page.age[slot];
+            if (age >= RETIREMENT_AGE) {
+                page.retired[slot] = true;
+                player.dropState();
+                continue;
+            }
+            age++;
+            page.age[slot] = age;
+
+            double peakAge = page.peakAge[slot];
+            double factor;
+            if (age <= peakAge) {
+                factor = page.growthRate[slot] * (1 - age / peakAge);
+            } else {
+                double years = (age - peakAge) / 5.0;
+                factor = -page.declineRate[slot] * (years * years);
+            }
+            random.reset(SimulationRandom.derive(SimulationRandom.derive(player.getSeed(), Domain.DEVELOPMENT), age));
+            long traits = page.traits[slot];
+
+            int j = count++;
+            developing[j] = player;
+            mechanical[j] = page.mechanical[slot];
+            strategic[j] = page.strategic[slot];
+            softSkill[j] = page.softSkill[slot];
+            growth[j] = factor * 10;
+            mechanicalNoise[j] = random.nextGaussian() * 2;
+            strategicNoise[j] = random.nextGaussian() * 2;
+            softSkillNoise[j] = random.nextGaussian() * 2;
+            lateBloomerBonus[j] = Traits.has(traits, PlayerTrait.LATE_BLOOMER) && age > LATE_BLOOMER_AGE
+                    ? LATE_BLOOMER_BONUS : 0;
+            mechanicalBonus[j] = Traits.mechanicalBonusOf(traits);
+            strategicBonus[j] = Traits.strategicBonusOf(traits);
+            softSkillBonus[j] = Traits.softSkillBonusOf(traits);
+        }
+        return count;
+    }
+
+    /**
+     * Scalar form of the update, also used for the tail the vector pass leaves. Clamping an
+     * in-range attribute again is a no-op, so adding a zero bonus needs no branch; overall
+     * follows Traits.overallOf term by term.
+     */
+    static void applyScalar(DevelopmentKernel k, int from, int to) {
+        for (int j = from; j < to; j++) {
+            double m = clamp(clamp(k.mechanical[j] + k.growth[j] + k.mechanicalNoise[j]) + k.lateBloomerBonus[j]);
+            double s = clamp(clamp(k.strategic[j] + k.growth[j] + k.strategicNoise[j]) + k.lateBloomerBonus[j]);
+            double sk = clamp(clamp(k.softSkill[j] + k.growth[j] + k.softSkillNoise[j]) + k.lateBloomerBonus[j]);
+            double base = (m + s + sk) / 3.0;
+            k.mechanical[j] = m;
+            k.strategic[j] = s;
+            k.softSkill[j] = sk;
+            k.overall[j] = Math.min(100, base + k.mechanicalBonus[j] * m + k.strategicBonus[j] * s
+                    + k.softSkillBonus[j] * sk);
+        }
+    }
+
+    private static void applyScalar(DevelopmentKernel k, int count) {
+        applyScalar(k, 0, count);
+    }
+
+    private static double clamp(double v) {
+        return Math.max(MIN_ATTRIBUTE, Math.min(MAX_ATTRIBUTE, v));
+    }
+
+    private void scatter(int count) {
+        for (int j = 0; j < count; j++) {
+            Player player = developing[j];
+            Page page = player.page();
+            int slot = player.slot();
+            page.mechanical[slot] = mechanical[j];
+            page.strategic[slot] = strategic[j];
+            page.softSkill[slot] = softSkill[j];
+            page.overall[slot] = overall[j];
+            player.attributesChanged();
+        }
+    }
+}
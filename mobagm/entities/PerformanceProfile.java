@@ -0,0 +1,47 @@
+// PerformanceProfile.java
+package com.mobagm.entities;
+
+import com.mobagm.core.Enums.PlayerTrait;
+import com.mobagm.core.RandomStream;
+
+/**
+ * A player's match performance distribution, compiled from overall rating and traits. The
+ * steady trait multipliers are folded into the mean, and a clutch performer is a two-part
+ * mixture: with CLUTCH_CHANCE the mean is raised by CLUTCH_FACTOR. Player keeps one profile
+ * until its attributes or traits change, so sampling a game does no trait work at all.
+ */
+public final class PerformanceProfile {
+    private static final double SPREAD = 15;
+    private static final double CLUTCH_CHANCE = 0.3;
+    private static final double CLUTCH_FACTOR = 1.2;
+
+    private final double mean;
+    private final double clutchMean;
+    private final boolean clutch;
+
+    PerformanceProfile(double overall, long traits) {
+        this.mean = overall * Traits.performanceMultiplier(traits);
+        this.clutchMean = mean * CLUTCH_FACTOR;
+        this.clutch = Traits.has(traits, PlayerTrait.CLUTCH_PERFORMER);
+    }
+
+    public double samplePerformance(RandomStream random) {
+        double base = clutch && random.nextDouble() < CLUTCH_CHANCE ? clutchMean : mean;
+        return Math.min(100, base + random.nextGaussian() * SPREAD);
+    }
+
+    // Samples one game's performance and box score, records them in stats and returns the performance
+    public double sampleGame(RandomStream random, boolean won, PlayerStatistics stats) {
+        double performance = samplePerformance(random);
+        int kills = Math.max(0, (int) (random.nextGaussian() * 3 + performance / 20));
+        int deaths = Math.max(1, (int) (random.nextGaussian() * 2 + (100 - performance) / 25));
+        int assists = Math.max(0, (int) (random.nextGaussian() * 4 + performance / 15));
+        stats.updateGameStats(won, performance, kills, deaths, assists);
+        return performance;
+    }
+
+    public double getMean() { return mean; }
+    public double getClutchMean() { return clutch ? clutchMean : mean; }
+    public double getClutchChance() { return clutch ? CLUTCH_CHANCE : 0.0; }
+    public double getSpread() { return SPREAD; }
+}
@@ -3,179 +3,262 @@ package com.mobagm.entities;
 
 import com.mobagm.core.Enums.Role;
 import com.mobagm.core.Enums.PlayerTrait;
+import com.mobagm.core.RandomStream;
+import com.mobagm.core.SimulationRandom;
+import com.mobagm.core.SimulationRandom.Domain;
+import com.mobagm.entities.PlayerStore.Page;
+import com.mobagm.generators.NameGenerator;
 import java.util.*;
 
+/**
+ * A player's identity, contract and statistics. The numeric fields (ratings, age,
+ * development curve, trait mask, retirement) live in the columns of the player's world's
+ * PlayerStore under the player's id.
+ */
 public class Player {
-    private String name;
+    // Dense id within the player's PlayerStore, usable as an array index; see PlayerStore.getIdCount()
+    private final int id;
+    // This player's page of PlayerStore columns and its position in it
+    private final Page page;
+    private final int slot;
+    // Indices into the NameGenerator tables; the display string is built by getName()
+    private final short firstName;
+    private final short lastName;
+    private final short nameRound;
     private Role role;
-    private int age;
-    private double mechanical;
-    private double strategic;
-    private double softSkill;
-    private double overall;
-    private double potential;
-    private Set<PlayerTrait> traits;
     private Team currentTeam;
     private int salary;
     private int contractLength;
-    private Map<String, Double> championMastery;
+    private final ChampionMastery championMastery;
     private PlayerStatistics statistics;
-    private boolean isRetired;
+    private final long seed;
 
-    // Development curve parameters
-    private double peakAge;
-    private double declineRate;
-    private double growthRate;
+    // Immutable copy of the fields above; dropped on every change and rebuilt on demand
+    private PlayerState state;
+    // Compiled from overall and traits; dropped with the state whenever attributes change
+    private PerformanceProfile profile;
+    // This player's PlayerRankings entry while a Champions team starts it, otherwise null
+    PlayerRankings.Entry ranking;
 
-    public Player(String name, Role role, int age) {
-        this.name = name;
+    // Shell for restore(); every other field comes from the saved state
+    private Player(PlayerStore store, int id, long name, Role role, long seed) {
+        this.id = id;
+        this.firstName = NameGenerator.firstNameOf(name);
+        this.lastName = NameGenerator.lastNameOf(name);
+        this.nameRound = NameGenerator.roundOf(name);
         this.role = role;
-        this.age  = age;
-        this.traits = new HashSet<>();
-        this.championMastery = new HashMap<>();
+        this.seed = seed;
+        this.page = store.reserve(id);
+        this.slot = PlayerStore.slot(id);
+        this.championMastery = new ChampionMastery();
+        this.statistics = new PlayerStatistics();
+    }
+
+    /**
+     * Rebuilds a saved player in store, under its saved id, without rerunning generation. The
+     * seed and development curve are kept as saved, so future development matches the
+     * original player exactly.
+     */
+    public static Player restore(PlayerStore store, int id, long name, Role role, long seed, double peakAge,
+                                 double declineRate, double growthRate, PlayerState state) {
+        Player player = new Player(store, id, name, role, seed);
+        player.page.peakAge[player.slot] = peakAge;
+        player.page.declineRate[player.slot] = declineRate;
+        player.page.growthRate[player.slot] = growthRate;
+        player.restoreState(state);
+        return player;
+    }
+
+    // name is a code from NameGenerator.generatePlayerName(); the player joins the default store
+    public Player(long name, Role role, int age) {
+        this(PlayerStore.getDefault(), SimulationRandom.getDefault(), name, role, age);
+    }
+
+    // store and simulationRandom are those of the player's world
+    public Player(PlayerStore store, SimulationRandom simulationRandom, long name, Role role, int age) {
+        this.id = store.newId();
+        this.firstName = NameGenerator.firstNameOf(name);
+        this.lastName = NameGenerator.lastNameOf(name);
+        this.nameRound = NameGenerator.roundOf(name);
+        this.role = role;
+        this.seed = simulationRandom.key(Domain.PLAYER, getName().hashCode(), role.ordinal(), age);
+        this.championMastery = new ChampionMastery();
         this.statistics     = new PlayerStatistics();
-        this.isRetired      = false;
+        this.page = store.allocate(id);
+        this.slot = PlayerStore.slot(id);
+        page.age[slot] = age;
 
-        initializeAttributes();
-        initializeTraits();
-        initializeDevelopmentCurve();
+        RandomStream random = new RandomStream(seed);
+        initializeAttributes(random);
+        initializeTraits(random);
+        initializeDevelopmentCurve(random);
         calculateOverall();
-        calculatePotential();
+        calculatePotential(random);
     }
 
-    private void initializeAttributes() {
-        Random random = new Random();
+    private void initializeAttributes(RandomStream random) {
         switch (role) {
             case TOP:
-                mechanical = clamp(random.nextGaussian() * 15 + 65);
-                strategic  = clamp(random.nextGaussian() * 15 + 60);
-                softSkill  = clamp(random.nextGaussian() * 15 + 55);
+                setAttributes(clamp(random.nextGaussian() * 15 + 65),
+                              clamp(random.nextGaussian() * 15 + 60),
+                              clamp(random.nextGaussian() * 15 + 55));
                 break;
             case JUNGLE:
-                mechanical = clamp(random.nextGaussian() * 15 + 60);
-                strategic  = clamp(random.nextGaussian() * 15 + 70);
-                softSkill  = clamp(random.nextGaussian() * 15 + 65);
+                setAttributes(clamp(random.nextGaussian() * 15 + 60),
+                              clamp(random.nextGaussian() * 15 + 70),
+                              clamp(random.nextGaussian() * 15 + 65));
                 break;
             case MID:
-                mechanical = clamp(random.nextGaussian() * 15 + 70);
-                strategic  = clamp(random.nextGaussian() * 15 + 65);
-                softSkill  = clamp(random.nextGaussian() * 15 + 60);
+                setAttributes(clamp(random.nextGaussian() * 15 + 70),
+                              clamp(random.nextGaussian() * 15 + 65),
+                              clamp(random.nextGaussian() * 15 + 60));
                 break;
             case ADC:
-                mechanical = clamp(random.nextGaussian() * 15 + 75);
-                strategic  = clamp(random.nextGaussian() * 15 + 55);
-                softSkill  = clamp(random.nextGaussian() * 15 + 50);
+                setAttributes(clamp(random.nextGaussian() * 15 + 75),
+                              clamp(random.nextGaussian() * 15 + 55),
+                              clamp(random.nextGaussian() * 15 + 50));
                 break;
             case SUPPORT:
-                mechanical = clamp(random.nextGaussian() * 15 + 50);
-                strategic  = clamp(random.nextGaussian() * 15 + 65);
-                softSkill  = clamp(random.nextGaussian() * 15 + 75);
+                setAttributes(clamp(random.nextGaussian() * 15 + 50),
+                              clamp(random.nextGaussian() * 15 + 65),
+                              clamp(random.nextGaussian() * 15 + 75));
                 break;
         }
     }
 
+    private void setAttributes(double mechanical, double strategic, double softSkill) {
+        page.mechanical[slot] = mechanical;
+        page.strategic[slot] = strategic;
+        page.softSkill[slot] = softSkill;
+    }
+
     private double clamp(double v) {
         return Math.max(30, Math.min(100, v));
     }
 
-    private void initializeTraits() {
-        Random random = new Random();
+    private void initializeTraits(RandomStream random) {
         int count = random.nextInt(3);
-        List<PlayerTrait> all = Arrays.asList(PlayerTrait.values());
-        Collections.shuffle(all, random);
-        for (int i = 0; i < count; i++) traits.add(all.get(i));
+        PlayerTrait[] all = PlayerTrait.values();
+        // Partial Fisher-Yates: the first `count` slots end up as a uniform sample
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(all.length - i);
+            PlayerTrait t = all[i];
+            all[i] = all[j];
+            all[j] = t;
+            page.traits[slot] |= Traits.bit(all[i]);
+        }
     }
 
-    private void initializeDevelopmentCurve() {
-        Random random = new Random();
-        peakAge     = 22 + random.nextGaussian() * 2;
-        declineRate = 0.02 + random.nextGaussian() * 0.01;
-        growthRate  = 0.05 + random.nextGaussian() * 0.02;
+    private void initializeDevelopmentCurve(RandomStream random) {
+        page.peakAge[slot] = 22 + random.nextGaussian() * 2;
+        page.declineRate[slot] = 0.02 + random.nextGaussian() * 0.01;
+        page.growthRate[slot] = 0.05 + random.nextGaussian() * 0.02;
     }
 
     private void calculateOverall() {
-        double base = (mechanical + strategic + softSkill) / 3.0;
-        double bonus = 0;
-        for (PlayerTrait t : traits) {
-            bonus += t.getMechanicalBonus() * mechanical
-                    + t.getStrategicBonus()   * strategic
-                    + t.getSoftSkillBonus()   * softSkill;
-        }
-        overall = Math.min(100, base + bonus);
+        page.overall[slot] = Traits.overallOf(getMechanical(), getStrategic(), getSoftSkill(), getTraits());
     }
 
-    private void calculatePotential() {
-        Random r = new Random();
-        double factor = Math.max(0, (30 - age) / 14.0);
-        potential = Math.min(100, overall + r.nextGaussian() * 10 * factor);
+    private void calculatePotential(RandomStream r) {
+        double factor = Math.max(0, (30 - getAge()) / 14.0);
+        page.potential[slot] = Math.min(100, getOverall() + r.nextGaussian() * 10 * factor);
     }
 
-    public void developPlayer() {
-        if (age >= 30) {
-            isRetired = true;
-            return;
+    // Team strength is cached from player attributes, so every attribute change must report here
+    void attributesChanged() {
+        state = null;
+        profile = null;
+        if (currentTeam != null) {
+            currentTeam.invalidateStrength();
         }
-        age++;
-        double factor = (age <= peakAge)
-                ? growthRate * (1 - age / peakAge)
-                : -declineRate * Math.pow((age - peakAge) / 5.0, 2);
-        Random r = new Random();
-        mechanical = clamp(mechanical + factor * 10 + r.nextGaussian() * 2);
-        strategic  = clamp(strategic  + factor * 10 + r.nextGaussian() * 2);
-        softSkill  = clamp(softSkill  + factor * 10 + r.nextGaussian() * 2);
-        calculateOverall();
-        if (traits.contains(PlayerTrait.LATE_BLOOMER) && age > 25) {
-            mechanical = clamp(mechanical + 2);
-            strategic  = clamp(strategic  + 2);
-            softSkill  = clamp(softSkill  + 2);
-            calculateOverall();
+        if (ranking != null) {
+            ranking.rankings.reposition(this);
         }
     }
 
-    public double getMatchPerformance() {
-        Random r = new Random();
-        double perf = overall;
-        for (PlayerTrait t : traits) {
-            if (t == PlayerTrait.CLUTCH_PERFORMER && r.nextDouble() < 0.3) {
-                perf *= 1.2;
-            } else if (t == PlayerTrait.CONSISTENT_PERFORMER) {
-                perf *= 1.1;
-            } else if (t == PlayerTrait.PRESSURE_RESISTANT) {
-                perf *= 1.05;
-            }
+    // For changes, such as age or retirement, that leave ratings and team strength alone
+    void dropState() {
+        state = null;
+    }
+
+    // Where this player's columns live, for bulk passes such as DevelopmentKernel
+    Page page() {
+        return page;
+    }
+
+    int slot() {
+        return slot;
+    }
+
+    public PerformanceProfile getPerformanceProfile() {
+        if (profile == null) {
+            profile = new PerformanceProfile(getOverall(), getTraits());
+        }
+        return profile;
+    }
+
+    public double getMatchPerformance(RandomStream r) {
+        return getPerformanceProfile().samplePerformance(r);
+    }
+
+    public PlayerState getState() {
+        if (state == null) {
+            state = new PlayerState(this);
         }
-        return Math.min(100, perf + r.nextGaussian() * 15);
+        return state;
+    }
+
+    // Rolls this player back to a captured state; the trait mask is restored along with attributes
+    public void restoreState(PlayerState s) {
+        page.age[slot] = s.getAge();
+        setAttributes(s.getMechanical(), s.getStrategic(), s.getSoftSkill());
+        page.overall[slot] = s.getOverall();
+        page.potential[slot] = s.getPotential();
+        page.traits[slot] = s.getTraits();
+        currentTeam    = s.getTeam();
+        salary         = s.getSalary();
+        contractLength = s.getContractLength();
+        page.retired[slot] = s.isRetired();
+        attributesChanged();
+        state = s;
     }
 
-    public void updateChampionMastery(String champ, double perf) {
-        championMastery.merge(champ, 50 + (perf - 50) * 0.1, Double::sum);
+    public void updateChampionMastery(int championId, double perf) {
+        championMastery.add(championId, 50 + (perf - 50) * 0.1);
     }
 
     // ** New getters for Game.java **
-    public double getMechanical() { return mechanical; }
-    public double getStrategic()  { return strategic; }
-    public double getSoftSkill()  { return softSkill; }
+    public double getMechanical() { return page.mechanical[slot]; }
+    public double getStrategic()  { return page.strategic[slot]; }
+    public double getSoftSkill()  { return page.softSkill[slot]; }
 
     // Remaining getters/setters...
-    public String getName()             { return name; }
+    public int getId()                  { return id; }
+    public String getName()             { return NameGenerator.format(firstName, lastName, nameRound); }
+    public long getNameCode()           { return (long) nameRound << 32 | firstName << 16 | lastName; }
     public Role getRole()               { return role; }
-    public int getAge()                 { return age; }
-    public double getOverall()          { return overall; }
-    public double getPotential()        { return potential; }
-    public Set<PlayerTrait> getTraits() { return traits; }
+    public int getAge()                 { return page.age[slot]; }
+    public double getOverall()          { return page.overall[slot]; }
+    public double getPotential()        { return page.potential[slot]; }
+    public long getTraits()             { return page.traits[slot]; }
     public Team getCurrentTeam()        { return currentTeam; }
-    public void setCurrentTeam(Team t)  { this.currentTeam = t; }
+    public void setCurrentTeam(Team t)  { this.currentTeam = t; state = null; }
     public int getSalary()              { return salary; }
-    public void setSalary(int s)        { this.salary = s; }
+    public void setSalary(int s)        { this.salary = s; state = null; }
     public int getContractLength()      { return contractLength; }
-    public void setContractLength(int c){ this.contractLength = c; }
+    public void setContractLength(int c){ this.contractLength = c; state = null; }
     public PlayerStatistics getStatistics(){ return statistics; }
-    public boolean isRetired()          { return isRetired; }
-    public void setRetired(boolean r)   { this.isRetired = r; }
+    public ChampionMastery getChampionMastery() { return championMastery; }
+    public boolean isRetired()          { return page.retired[slot]; }
+    public long getSeed()               { return seed; }
+    public double getPeakAge()          { return page.peakAge[slot]; }
+    public double getDeclineRate()      { return page.declineRate[slot]; }
+    public double getGrowthRate()       { return page.growthRate[slot]; }
+    public void setRetired(boolean r)   { page.retired[slot] = r; state = null; }
 
     @Override
     public String toString() {
         return String.format("%s (%s) Age:%d OVR:%.1f POT:%.1f",
-                name, role, age, overall, potential);
+                getName(), role, getAge(), getOverall(), getPotential());
     }
 }
@@ -0,0 +1,148 @@
+// PlayerRankings.java
+package com.mobagm.entities;
+
+import com.mobagm.core.Enums.Region;
+import com.mobagm.core.Enums.Role;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Starters of Champions-league teams ranked by overall rating: world-wide, per region and
+ * per region and role. Teams report roster and league changes and players report rating
+ * changes as they happen, each costing O(log n) per index, so a top-k query just walks the
+ * first k entries of one index. Higher overall ranks first; equal ratings go to the lower
+ * player id.
+ *
+ * An entry keeps the rating it was ranked with, and a change replaces the entry rather than
+ * editing it, so the sorted sets stay consistent. The sets are concurrent because regions
+ * develop their players in parallel; a query running at the same time may miss a player
+ * whose entry is being replaced. Like the PlayerStore, each world (LeagueManager) has its
+ * own rankings; its teams are given them when they join a RegionalLeague, and a ranked
+ * player reaches them through its entry.
+ */
+public final class PlayerRankings {
+    private static final Region[] REGIONS = Region.values();
+    private static final Role[] ROLES = Role.values();
+
+    // A player's place in the rankings, fixed at the time it was ranked
+    static final class Entry {
+        final PlayerRankings rankings;
+        final Player player;
+        final int id;
+        final double overall;
+        final Team team;
+        final Region region;
+        final Role role;
+
+        Entry(PlayerRankings rankings, Player player, Team team) {
+            this.rankings = rankings;
+            this.player = player;
+            this.id = player.getId();
+            this.overall = player.getOverall();
+            this.team = team;
+            this.region = team.getRegion();
+            this.role = player.getRole();
+        }
+    }
+
+    private static final Comparator<Entry> ORDER = (a, b) -> {
+        int byOverall = Double.compare(b.overall, a.overall);
+        return byOverall != 0 ? byOverall : Integer.compare(a.id, b.id);
+    };
+
+    private final NavigableSet<Entry> global = new ConcurrentSkipListSet<>(ORDER);
+    private final List<NavigableSet<Entry>> byRegion = new ArrayList<>();
+    private final List<NavigableSet<Entry>> byRegionAndRole = new ArrayList<>();
+
+    public PlayerRankings() {
+        for (int r = 0; r < REGIONS.length; r++) {
+            byRegion.add(new ConcurrentSkipListSet<>(ORDER));
+            for (int role = 0; role < ROLES.length; role++) {
+                byRegionAndRole.add(new ConcurrentSkipListSet<>(ORDER));
+            }
+        }
+    }
+
+    private NavigableSet<Entry> regionIndex(Region region) {
+        return byRegion.get(region.ordinal());
+    }
+
+    private NavigableSet<Entry> roleIndex(Region region, Role role) {
+        return byRegionAndRole.get(region.ordinal() * ROLES.length + role.ordinal());
+    }
+
+    // Ranks player as a starter of team, replacing any earlier entry
+    void place(Player player, Team team) {
+        unlink(player.ranking);
+        Entry entry = new Entry(this, player, team);
+        global.add(entry);
+        regionIndex(entry.region).add(entry);
+        roleIndex(entry.region, entry.role).add(entry);
+        player.ranking = entry;
+    }
+
+    // Re-ranks a ranked player after its overall changed; unranked players are ignored
+    void reposition(Player player) {
+        Entry entry = player.ranking;
+        if (entry != null && entry.overall != player.getOverall()) {
+            place(player, entry.team);
+        }
+    }
+
+    // Drops player if team is the one it is ranked under; a newer team's entry is kept
+    void remove(Player player, Team team) {
+        Entry entry = player.ranking;
+        if (entry != null && entry.team == team) {
+            unlink(entry);
+            player.ranking = null;
+        }
+    }
+
+    private void unlink(Entry entry) {
+        if (entry == null) return;
+        global.remove(entry);
+        regionIndex(entry.region).remove(entry);
+        roleIndex(entry.region, entry.role).remove(entry);
+    }
+
+    public boolean isRanked(Player player) {
+        return player.ranking != null;
+    }
+
+    public int size() {
+        return global.size();
+    }
+
+    // The count best starters world-wide, best first
+    public List<Player> top(int count) {
+        return top(global, count);
+    }
+
+    public List<Player> top(Region region, int count) {
+        return top(regionIndex(region), count);
+    }
+
+    public List<Player> top(Region region, Role role, int count) {
+        return top(roleIndex(region, role), count);
+    }
+
+    // Best starter in a role in a region, or null if no Champions team fields one
+    public Player best(Region region, Role role) {
+        Entry entry = first(roleIndex(region, role));
+        return entry == null ? null : entry.player;
+    }
+
+    private static Entry first(NavigableSet<Entry> index) {
+        Iterator<Entry> it = index.iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
+    private static List<Player> top(NavigableSet<Entry> index, int count) {
+        List<Player> players = new ArrayList<>(Math.max(0, count));
+        Iterator<Entry> it = index.iterator();
+        while (players.size() < count && it.hasNext()) {
+            players.add(it.next().player);
+        }
+        return players;
+    }
+}
@@ -0,0 +1,87 @@
+// PlayerState.java
+package com.mobagm.entities;
+
+/**
+ * Immutable copy of a player's mutable attributes. Player caches its current state until
+ * something changes, so snapshots taken between changes share the same instance. Name,
+ * role and seed never change and are read from the Player itself.
+ */
+public final class PlayerState {
+    private final int age;
+    private final double mechanical;
+    private final double strategic;
+    private final double softSkill;
+    private final double overall;
+    private final double potential;
+    private final long traits;
+    private final Team team;
+    private final int salary;
+    private final int contractLength;
+    private final boolean retired;
+
+    PlayerState(Player player) {
+        this(player.getAge(), player.getMechanical(), player.getStrategic(), player.getSoftSkill(),
+                player.getOverall(), player.getPotential(),
+                player.getTraits(),
+                player.getCurrentTeam(), player.getSalary(), player.getContractLength(), player.isRetired());
+    }
+
+    private PlayerState(int age, double mechanical, double strategic, double softSkill, double overall,
+                        double potential, long traits, Team team, int salary,
+                        int contractLength, boolean retired) {
+        this.age = age;
+        this.mechanical = mechanical;
+        this.strategic = strategic;
+        this.softSkill = softSkill;
+        this.overall = overall;
+        this.potential = potential;
+        this.traits = traits;
+        this.team = team;
+        this.salary = salary;
+        this.contractLength = contractLength;
+        this.retired = retired;
+    }
+
+    // A state with every field given, e.g. when loading a saved world
+    public static PlayerState of(int age, double mechanical, double strategic, double softSkill, double overall,
+                                 double potential, long traits, Team team, int salary,
+                                 int contractLength, boolean retired) {
+        return new PlayerState(age, mechanical, strategic, softSkill, overall, potential,
+                traits, team, salary, contractLength, retired);
+    }
+
+    // Copies with one aspect changed; attribute changes recompute overall like Player does
+    public PlayerState withAttributes(double mechanical, double strategic, double softSkill) {
+        return new PlayerState(age, mechanical, strategic, softSkill,
+                Traits.overallOf(mechanical, strategic, softSkill, traits),
+                potential, traits, team, salary, contractLength, retired);
+    }
+
+    public PlayerState withTeam(Team team) {
+        return new PlayerState(age, mechanical, strategic, softSkill, overall, potential,
+                traits, team, salary, contractLength, retired);
+    }
+
+    public PlayerState withContract(int salary, int contractLength) {
+        return new PlayerState(age, mechanical, strategic, softSkill, overall, potential,
+                traits, team, salary, contractLength, retired);
+    }
+
+    public PlayerState withRetired(boolean retired) {
+        return new PlayerState(age, mechanical, strategic, softSkill, overall, potential,
+                traits, team, salary, contractLength, retired);
+    }
+
+    public int getAge() { return age; }
+    public double getMechanical() { return mechanical; }
+    public double getStrategic() { return strategic; }
+    public double getSoftSkill() { return softSkill; }
+    public double getOverall() { return overall; }
+    public double getPotential() { return potential; }
+    // Bitmask over PlayerTrait ordinals; see Traits
+    public long getTraits() { return traits; }
+    public Team getTeam() { return team; }
+    public int getSalary() { return salary; }
+    public int getContractLength() { return contractLength; }
+    public boolean isRetired() { return retired; }
+}
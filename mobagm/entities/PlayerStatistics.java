@@ -53,6 +53,19 @@ public class PlayerStatistics {
         }
     }
 
+    // Sets the running totals directly, e.g. when loading a saved world
+    public void restoreTotals(int gamesPlayed, int wins, int losses, double averagePerformance,
+                              int kills, int deaths, int assists) {
+        this.gamesPlayed = gamesPlayed;
+        this.wins = wins;
+        this.losses = losses;
+        this.averagePerformance = averagePerformance;
+        this.kills = kills;
+        this.deaths = deaths;
+        this.assists = assists;
+        updateKDA();
+    }
+
     public double getWinRate() {
         return gamesPlayed > 0 ? (double) wins / gamesPlayed : 0.0;
     }
@@ -0,0 +1,147 @@
+// PlayerStore.java
+package com.mobagm.entities;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Column storage for the numeric player fields, indexed by player id. Every Player reads and
+ * writes its ratings, age, development curve, trait mask and retirement flag here, so code that needs
+ * one field across many players can scan a primitive array instead of chasing Player
+ * objects.
+ *
+ * Each world (LeagueManager) has its own store, which hands out the ids of its players, so
+ * a loaded world can restore players under their saved ids without touching another
+ * world's columns. Players created without a store, outside any world, share a default
+ * one.
+ *
+ * Columns are split into pages of PAGE_SIZE ids. Pages are allocated as ids are handed out
+ * and never move, so a new player never invalidates a page another thread is writing, and
+ * each Player keeps a direct reference to its own page. Slots are not reused; a player
+ * that leaves the world keeps its last values.
+ */
+public final class PlayerStore {
+    public enum Column {
+        MECHANICAL, STRATEGIC, SOFT_SKILL, OVERALL, POTENTIAL, PEAK_AGE, DECLINE_RATE, GROWTH_RATE
+    }
+
+    public static final int PAGE_SIZE = 4096;
+    private static final int PAGE_SHIFT = Integer.numberOfTrailingZeros(PAGE_SIZE);
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private static final PlayerStore DEFAULT = new PlayerStore();
+
+    static final class Page {
+        final double[] mechanical = new double[PAGE_SIZE];
+        final double[] strategic = new double[PAGE_SIZE];
+        final double[] softSkill = new double[PAGE_SIZE];
+        final double[] overall = new double[PAGE_SIZE];
+        final double[] potential = new double[PAGE_SIZE];
+        final double[] peakAge = new double[PAGE_SIZE];
+        final double[] declineRate = new double[PAGE_SIZE];
+        final double[] growthRate = new double[PAGE_SIZE];
+        final int[] age = new int[PAGE_SIZE];
+        final long[] traits = new long[PAGE_SIZE];
+        final boolean[] retired = new boolean[PAGE_SIZE];
+
+        double[] column(Column column) {
+            switch (column) {
+                case MECHANICAL: return mechanical;
+                case STRATEGIC: return strategic;
+                case SOFT_SKILL: return softSkill;
+                case OVERALL: return overall;
+                case POTENTIAL: return potential;
+                case PEAK_AGE: return peakAge;
+                case DECLINE_RATE: return declineRate;
+                default: return growthRate;
+            }
+        }
+    }
+
+    // Replaced, never modified, when it grows
+    private volatile Page[] pages = new Page[0];
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public PlayerStore() {
+    }
+
+    // The store of players created outside any world
+    public static PlayerStore getDefault() {
+        return DEFAULT;
+    }
+
+    // A new id and its page
+    int newId() {
+        int id = nextId.getAndIncrement();
+        allocate(id);
+        return id;
+    }
+
+    // Claims an id restored from a save; ids handed out later continue above it
+    Page reserve(int id) {
+        nextId.accumulateAndGet(id + 1, Math::max);
+        return allocate(id);
+    }
+
+    // Returns the page holding id, allocating it first; called whenever a player id is handed out
+    synchronized Page allocate(int id) {
+        int page = id >>> PAGE_SHIFT;
+        Page[] current = pages;
+        if (page >= current.length) {
+            Page[] grown = Arrays.copyOf(current, page + 1);
+            for (int i = current.length; i < grown.length; i++) grown[i] = new Page();
+            pages = grown;
+        }
+        return pages[page];
+    }
+
+    // Position of id within its page
+    static int slot(int id) {
+        return id & PAGE_MASK;
+    }
+
+    public double get(Column column, int id) {
+        return pages[id >>> PAGE_SHIFT].column(column)[id & PAGE_MASK];
+    }
+
+    public int getAge(int id) {
+        return pages[id >>> PAGE_SHIFT].age[id & PAGE_MASK];
+    }
+
+    public long getTraits(int id) {
+        return pages[id >>> PAGE_SHIFT].traits[id & PAGE_MASK];
+    }
+
+    public boolean isRetired(int id) {
+        return pages[id >>> PAGE_SHIFT].retired[id & PAGE_MASK];
+    }
+
+    // Every player id handed out so far is below this
+    public int getIdCount() {
+        return nextId.get();
+    }
+
+    // Bulk access for scans. Page p holds ids [p * PAGE_SIZE, (p + 1) * PAGE_SIZE); ids at or
+    // above getIdCount() are unused. The arrays are the live columns: read them, but
+    // change players only through Player so cached states and team strength stay in step.
+
+    public int getPageCount() {
+        return pages.length;
+    }
+
+    public double[] getColumnPage(Column column, int page) {
+        return pages[page].column(column);
+    }
+
+    public int[] getAgePage(int page) {
+        return pages[page].age;
+    }
+
+    public long[] getTraitsPage(int page) {
+        return pages[page].traits;
+    }
+
+    public boolean[] getRetiredPage(int page) {
+        return pages[page].retired;
+    }
+}
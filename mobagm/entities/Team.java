@@ -2,11 +2,24 @@
 package com.mobagm.entities;
 
 import com.mobagm.core.Enums.*;
+import com.mobagm.core.RandomStream;
+import com.mobagm.core.SimulationRandom;
+import com.mobagm.core.SimulationRandom.Domain;
+import com.mobagm.events.EventBus;
+import com.mobagm.events.SimulationEvent.Kind;
+import com.mobagm.events.SimulationEvent.PlayerRetired;
 import com.mobagm.generators.LogoGenerator;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Team {
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    private static final Role[] ROLES = Role.values();
+
+    // Process-unique id; compact match records refer to teams by id rather than by reference
+    private final int id;
     private String name;
     private String logoDataUrl;
     private Region region;
@@ -22,34 +35,74 @@ public class Team {
     private boolean isActive;
     private Map<String, Object> teamStrategy;
 
-    public Team(String name, Region region, League league) {
+    // Derived from the roster; rebuilt lazily after invalidateStrength()
+    private TeamStrength strength;
+    private long strengthVersion;
+
+    // Immutable copy of league, budget and membership; dropped on every change
+    private TeamState state;
+    // The rankings of the world this team plays in, null until it joins one
+    private PlayerRankings rankings;
+    // Starters last reported to rankings, by role ordinal
+    private final Player[] rankedStarters = new Player[ROLES.length];
+
+    // simulationRandom is the world's; it keys the team's budget and coach
+    public Team(SimulationRandom simulationRandom, String name, Region region, League league) {
+        this.id = NEXT_ID.incrementAndGet();
         this.name = name;
         this.region = region;
         this.league = league;
-        this.roster = new HashMap<>();
+        this.roster = new EnumMap<>(Role.class);
         this.bench = new ArrayList<>();
         this.academy = new ArrayList<>();
         this.statistics = new TeamStatistics();
-        this.budget = generateInitialBudget();
-        this.coach = generateCoachName();
+        RandomStream random = new RandomStream(simulationRandom.key(Domain.TEAM, name.hashCode(), region.ordinal()));
+        this.budget = generateInitialBudget(random);
+        this.coach = generateCoachName(random);
         this.teamSynergy = new HashMap<>();
         this.currentSplit = 0;
         this.isActive = true;
         this.teamStrategy = new HashMap<>();
-        this.logoDataUrl = LogoGenerator.generateTeamLogo(name, region);
 
         initializeTeamStrategy();
     }
 
-    private int generateInitialBudget() {
-        Random random = new Random();
+    // Shell for restore(); no names, budget or coach are generated
+    private Team(int id, String name, Region region, League league, int budget, String coach) {
+        this.id = id;
+        this.name = name;
+        this.region = region;
+        this.league = league;
+        this.roster = new EnumMap<>(Role.class);
+        this.bench = new ArrayList<>();
+        this.academy = new ArrayList<>();
+        this.statistics = new TeamStatistics();
+        this.budget = budget;
+        this.coach = coach;
+        this.teamSynergy = new HashMap<>();
+        this.isActive = true;
+        this.teamStrategy = new HashMap<>();
+
+        initializeTeamStrategy();
+    }
+
+    /**
+     * Rebuilds a saved team under its original id, so archived match records still resolve.
+     * Roster membership is restored afterwards with restoreState.
+     */
+    public static Team restore(int id, String name, Region region, League league, int budget, String coach) {
+        NEXT_ID.accumulateAndGet(id, Math::max);
+        return new Team(id, name, region, league, budget, coach);
+    }
+
+    private int generateInitialBudget(RandomStream random) {
         return 500000 + random.nextInt(1000000); // $500k to $1.5M
     }
 
-    private String generateCoachName() {
+    private String generateCoachName(RandomStream random) {
         String[] coaches = {"Coach Kim", "Coach Johnson", "Coach Chen", "Coach Mueller",
                 "Coach Silva", "Coach Petrov", "Coach Martinez", "Coach Wang"};
-        return coaches[new Random().nextInt(coaches.length)];
+        return coaches[random.nextInt(coaches.length)];
     }
 
     private void initializeTeamStrategy() {
@@ -74,7 +127,8 @@ public class Team {
         player.setCurrentTeam(this);
         budget -= player.getSalary();
 
-        updateTeamSynergy();
+        invalidateStrength();
+        updateRankings();
         return true;
     }
 
@@ -88,63 +142,130 @@ public class Team {
         player.setCurrentTeam(null);
         budget += player.getSalary() / 2; // Partial salary recovery
 
-        updateTeamSynergy();
+        invalidateStrength();
+        updateRankings();
     }
 
-    public void developRoster() {
-        roster.values().forEach(Player::developPlayer);
-        bench.forEach(Player::developPlayer);
-        academy.forEach(Player::developPlayer);
+    // Adds every player under contract to a development pass; call removeRetiredPlayers() once it has run
+    public void queueDevelopment(DevelopmentKernel kernel) {
+        kernel.addAll(roster.values());
+        kernel.addAll(bench);
+        kernel.addAll(academy);
+    }
 
-        // Remove retired players
+    public void removeRetiredPlayers() {
+        EventBus events = EventBus.current();
+        if (events.isObserved(Kind.PLAYER_RETIRED)) {
+            Stream.of(roster.values().stream(), bench.stream(), academy.stream())
+                    .flatMap(s -> s)
+                    .filter(Player::isRetired)
+                    .forEach(p -> events.publish(new PlayerRetired(p.getName(), p.getRole(), p.getAge(), name)));
+        }
         roster.entrySet().removeIf(entry -> entry.getValue().isRetired());
         bench.removeIf(Player::isRetired);
         academy.removeIf(Player::isRetired);
+
+        invalidateStrength();
+        updateRankings();
     }
 
-    private void updateTeamSynergy() {
-        if (roster.size() < 5) return;
+    // Moves the team's starters into the rankings of the world it now plays in
+    public void setRankings(PlayerRankings rankings) {
+        if (this.rankings == rankings) return;
+        if (this.rankings != null) {
+            for (Role role : ROLES) {
+                Player previous = rankedStarters[role.ordinal()];
+                if (previous != null) this.rankings.remove(previous, this);
+                rankedStarters[role.ordinal()] = null;
+            }
+        }
+        this.rankings = rankings;
+        updateRankings();
+    }
 
-        // Calculate synergy based on player traits and roles
-        double synergy = 0.0;
-        List<Player> players = new ArrayList<>(roster.values());
+    // Brings the rankings in line with the current starters and league
+    private void updateRankings() {
+        if (rankings == null) return;
+        boolean ranked = league == League.CHAMPIONS_SERIES;
+        for (Role role : ROLES) {
+            Player starter = ranked ? roster.get(role) : null;
+            Player previous = rankedStarters[role.ordinal()];
+            if (previous != null && previous != starter) {
+                rankings.remove(previous, this);
+            }
+            if (starter != null && (starter.ranking == null || starter.ranking.team != this)) {
+                rankings.place(starter, this);
+            }
+            rankedStarters[role.ordinal()] = starter;
+        }
+    }
 
-        for (int i = 0; i < players.size(); i++) {
-            for (int j = i + 1; j < players.size(); j++) {
-                Player p1 = players.get(i);
-                Player p2 = players.get(j);
+    /**
+     * Marks cached strength, phase strengths, synergy and state as stale. Called on roster changes
+     * and by players whose attributes change; the next read recomputes everything once.
+     */
+    public void invalidateStrength() {
+        strength = null;
+        state = null;
+        strengthVersion++;
+    }
 
-                // Base synergy
-                double pairSynergy = 0.5;
+    // Bumped on every invalidation, so readers can tell whether a strength they hold is current
+    public long getStrengthVersion() {
+        return strengthVersion;
+    }
 
-                // Trait-based synergy
-                if (p1.getTraits().contains(PlayerTrait.TEAM_CAPTAIN) ||
-                        p2.getTraits().contains(PlayerTrait.TEAM_CAPTAIN)) {
-                    pairSynergy += 0.1;
-                }
+    private TeamStrength ensureStrengthCache() {
+        if (strength == null) {
+            List<PlayerState> starters = new ArrayList<>(roster.size());
+            for (Player player : roster.values()) {
+                starters.add(player.getState());
+            }
+            strength = TeamStrength.of(starters);
+            if (roster.size() >= 5) {
+                teamSynergy.put("overall", strength.getSynergy());
+            }
+        }
+        return strength;
+    }
 
-                if (p1.getTraits().contains(PlayerTrait.SYNERGY_BUILDER) ||
-                        p2.getTraits().contains(PlayerTrait.SYNERGY_BUILDER)) {
-                    pairSynergy += 0.15;
-                }
+    public TeamStrength getStrengthBreakdown() {
+        return ensureStrengthCache();
+    }
 
-                synergy += pairSynergy;
-            }
+    public TeamState getState() {
+        if (state == null) {
+            state = new TeamState(this);
         }
+        return state;
+    }
 
-        teamSynergy.put("overall", synergy / 10.0); // Normalize
+    // Rolls league, budget and membership back to a captured state; players restore separately
+    public void restoreState(TeamState s) {
+        league = s.getLeague();
+        budget = s.getBudget();
+        roster.clear();
+        roster.putAll(s.getRoster());
+        bench.clear();
+        bench.addAll(s.getBench());
+        academy.clear();
+        academy.addAll(s.getAcademy());
+        invalidateStrength();
+        updateRankings();
+        state = s;
     }
 
     public double getTeamStrength() {
-        if (roster.size() < 5) return 0.0;
-
-        double totalStrength = roster.values().stream()
-                .mapToDouble(Player::getOverall)
-                .sum();
+        return ensureStrengthCache().getStrength();
+    }
 
-        double synergyBonus = teamSynergy.getOrDefault("overall", 0.5) * 10;
+    // Phase strengths used by the game engine; early game favours mechanics, late game strategy
+    public double getEarlyGameStrength() {
+        return ensureStrengthCache().getEarlyGameStrength();
+    }
 
-        return (totalStrength / 5.0) + synergyBonus;
+    public double getLateGameStrength() {
+        return ensureStrengthCache().getLateGameStrength();
     }
 
     public List<Player> getRosterSorted() {
@@ -170,19 +291,28 @@ public class Team {
     }
 
     // Getters and setters
+    public int getId() { return id; }
     public String getName() { return name; }
-    public String getLogoDataUrl() { return logoDataUrl; }
+
+    // Generated on first use; only the GUIs show logos
+    public String getLogoDataUrl() {
+        if (logoDataUrl == null) {
+            logoDataUrl = LogoGenerator.generateTeamLogo(name, region);
+        }
+        return logoDataUrl;
+    }
+
     public Region getRegion() { return region; }
     public League getLeague() { return league; }
-    public void setLeague(League league) { this.league = league; }
+    public void setLeague(League league) { this.league = league; state = null; updateRankings(); }
     public Map<Role, Player> getRoster() { return roster; }
     public List<Player> getBench() { return bench; }
     public List<Player> getAcademy() { return academy; }
     public TeamStatistics getStatistics() { return statistics; }
     public int getBudget() { return budget; }
-    public void setBudget(int budget) { this.budget = budget; }
+    public void setBudget(int budget) { this.budget = budget; state = null; }
     public String getCoach() { return coach; }
-    public Map<String, Double> getTeamSynergy() { return teamSynergy; }
+    public Map<String, Double> getTeamSynergy() { ensureStrengthCache(); return teamSynergy; }
     public boolean isActive() { return isActive; }
     public void setActive(boolean active) { isActive = active; }
     public Map<String, Object> getTeamStrategy() { return teamStrategy; }
@@ -0,0 +1,76 @@
+// TeamState.java
+package com.mobagm.entities;
+
+import com.mobagm.core.Enums.League;
+import com.mobagm.core.Enums.Role;
+import java.util.*;
+
+/**
+ * Immutable copy of a team's league, budget and roster membership. Players are held by
+ * reference; their attributes live in PlayerState. Team caches its current state until the
+ * roster, budget or league changes.
+ */
+public final class TeamState {
+    private final League league;
+    private final int budget;
+    private final Map<Role, Player> roster;
+    private final List<Player> bench;
+    private final List<Player> academy;
+
+    TeamState(Team team) {
+        this(team.getLeague(), team.getBudget(), team.getRoster(), team.getBench(), team.getAcademy());
+    }
+
+    private TeamState(League league, int budget, Map<Role, Player> roster, List<Player> bench, List<Player> academy) {
+        this.league = league;
+        this.budget = budget;
+        Map<Role, Player> rosterCopy = new EnumMap<>(Role.class);
+        rosterCopy.putAll(roster);
+        this.roster = Collections.unmodifiableMap(rosterCopy);
+        this.bench = List.copyOf(bench);
+        this.academy = List.copyOf(academy);
+    }
+
+    public static TeamState of(League league, int budget, Map<Role, Player> roster, List<Player> bench,
+                               List<Player> academy) {
+        return new TeamState(league, budget, roster, bench, academy);
+    }
+
+    // Same rules as Team.signPlayer, minus the budget check which callers make first
+    public TeamState withSigned(Player player, Role role, int salary) {
+        Map<Role, Player> newRoster = new EnumMap<>(Role.class);
+        newRoster.putAll(roster);
+        List<Player> newBench = new ArrayList<>(bench);
+        Player displaced = newRoster.put(role, player);
+        if (displaced != null) {
+            newBench.add(displaced);
+        }
+        return new TeamState(league, budget - salary, newRoster, newBench, academy);
+    }
+
+    // Drops the player from roster, bench and academy, adjusting the budget by budgetChange
+    public TeamState without(Player player, int budgetChange) {
+        Map<Role, Player> newRoster = new EnumMap<>(Role.class);
+        newRoster.putAll(roster);
+        newRoster.values().remove(player);
+        List<Player> newBench = new ArrayList<>(bench);
+        newBench.remove(player);
+        List<Player> newAcademy = new ArrayList<>(academy);
+        newAcademy.remove(player);
+        return new TeamState(league, budget + budgetChange, newRoster, newBench, newAcademy);
+    }
+
+    public TeamState withLeague(League league) {
+        return new TeamState(league, budget, roster, bench, academy);
+    }
+
+    public boolean contains(Player player) {
+        return roster.containsValue(player) || bench.contains(player) || academy.contains(player);
+    }
+
+    public League getLeague() { return league; }
+    public int getBudget() { return budget; }
+    public Map<Role, Player> getRoster() { return roster; }
+    public List<Player> getBench() { return bench; }
+    public List<Player> getAcademy() { return academy; }
+}
@@ -69,6 +69,18 @@ public class TeamStatistics {
         splitRecords.put(key, splitRecords.getOrDefault(key, 0) + 1);
     }
 
+    // Sets the running totals directly, e.g. when loading a saved world
+    public void restoreTotals(int gamesPlayed, int wins, int losses, double averageGameTime,
+                              int totalKills, int totalDeaths) {
+        this.gamesPlayed = gamesPlayed;
+        this.wins = wins;
+        this.losses = losses;
+        this.averageGameTime = averageGameTime;
+        this.totalKills = totalKills;
+        this.totalDeaths = totalDeaths;
+        updateKDA();
+    }
+
     public double getWinRate() {
         return gamesPlayed > 0 ? (double) wins / gamesPlayed : 0.0;
     }
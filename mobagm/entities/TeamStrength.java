@@ -0,0 +1,51 @@
+// TeamStrength.java
+package com.mobagm.entities;
+
+import java.util.*;
+
+/**
+ * Strength figures derived from a starting roster: overall strength, the phase strengths
+ * used by the game engine, and trait synergy. Computed from player states so Team and
+ * league forks rate the same roster identically.
+ */
+public final class TeamStrength {
+    private static final double DEFAULT_SYNERGY = 0.5;
+
+    private final double strength;
+    private final double earlyGameStrength;
+    private final double lateGameStrength;
+    private final double synergy;
+
+    private TeamStrength(double strength, double earlyGameStrength, double lateGameStrength, double synergy) {
+        this.strength = strength;
+        this.earlyGameStrength = earlyGameStrength;
+        this.lateGameStrength = lateGameStrength;
+        this.synergy = synergy;
+    }
+
+    // Starters in role order; an incomplete roster has no strength and default synergy
+    public static TeamStrength of(List<PlayerState> starters) {
+        double synergy = starters.size() < 5 ? DEFAULT_SYNERGY : synergyOf(starters);
+
+        double total = 0, early = 0, late = 0;
+        for (PlayerState player : starters) {
+            total += player.getOverall();
+            early += player.getMechanical() * 0.7 + player.getStrategic() * 0.3;
+            late  += player.getMechanical() * 0.4 + player.getStrategic() * 0.6;
+        }
+
+        double strength = starters.size() < 5 ? 0.0 : (total / 5.0) + synergy * 10;
+        return new TeamStrength(strength, early / 5.0, late / 5.0, synergy);
+    }
+
+    private static double synergyOf(List<PlayerState> players) {
+        long[] traits = new long[players.size()];
+        for (int i = 0; i < traits.length; i++) traits[i] = players.get(i).getTraits();
+        return Traits.synergyOf(traits);
+    }
+
+    public double getStrength() { return strength; }
+    public double getEarlyGameStrength() { return earlyGameStrength; }
+    public double getLateGameStrength() { return lateGameStrength; }
+    public double getSynergy() { return synergy; }
+}
@@ -0,0 +1,162 @@
+// Traits.java
+package com.mobagm.entities;
+
+import com.mobagm.core.Enums.PlayerTrait;
+import java.util.*;
+
+/**
+ * Player traits as a bitmask: bit n is set when the player has the trait with ordinal n.
+ * Everything the simulation derives from a trait set is precomputed per byte of the mask,
+ * so a lookup costs one table read per byte regardless of how many traits are set: the
+ * summed attribute bonuses behind the overall rating and the steady match performance
+ * multiplier. Team synergy counts trait holders with popcounts, and trait combinations
+ * are plain mask tests.
+ */
+public final class Traits {
+    public static final long NONE = 0L;
+
+    private static final PlayerTrait[] ALL = PlayerTrait.values();
+    private static final int SLICES = (ALL.length + 7) / 8;
+
+    private static final double[][] MECHANICAL_BONUS = new double[SLICES][256];
+    private static final double[][] STRATEGIC_BONUS = new double[SLICES][256];
+    private static final double[][] SOFT_SKILL_BONUS = new double[SLICES][256];
+    private static final double[][] PERFORMANCE = new double[SLICES][256];
+
+    // Pairs of traits that add team synergy when both appear in a starting roster
+    private static final long[] COMBOS = {
+            bit(PlayerTrait.TEAM_CAPTAIN) | bit(PlayerTrait.SHOTCALLER)
+    };
+    private static final double[] COMBO_SYNERGY = {
+            0.05
+    };
+
+    static {
+        if (ALL.length > Long.SIZE) {
+            throw new IllegalStateException(ALL.length + " traits do not fit in a long mask");
+        }
+        for (int slice = 0; slice < SLICES; slice++) {
+            for (int bits = 0; bits < 256; bits++) {
+                double performance = 1.0;
+                for (int bit = 0; bit < 8; bit++) {
+                    int ordinal = slice * 8 + bit;
+                    if ((bits & (1 << bit)) == 0 || ordinal >= ALL.length) continue;
+                    PlayerTrait trait = ALL[ordinal];
+                    MECHANICAL_BONUS[slice][bits] += trait.getMechanicalBonus();
+                    STRATEGIC_BONUS[slice][bits] += trait.getStrategicBonus();
+                    SOFT_SKILL_BONUS[slice][bits] += trait.getSoftSkillBonus();
+                    performance *= performanceMultiplier(trait);
+                }
+                PERFORMANCE[slice][bits] = performance;
+            }
+        }
+    }
+
+    private Traits() {
+    }
+
+    // Multiplier applied to every match performance; CLUTCH_PERFORMER is random and handled by Player
+    private static double performanceMultiplier(PlayerTrait trait) {
+        switch (trait) {
+            case CONSISTENT_PERFORMER: return 1.1;
+            case PRESSURE_RESISTANT: return 1.05;
+            default: return 1.0;
+        }
+    }
+
+    public static long bit(PlayerTrait trait) {
+        return 1L << trait.ordinal();
+    }
+
+    public static boolean has(long traits, PlayerTrait trait) {
+        return (traits & bit(trait)) != 0;
+    }
+
+    public static int count(long traits) {
+        return Long.bitCount(traits);
+    }
+
+    public static long of(Collection<PlayerTrait> traits) {
+        long mask = NONE;
+        for (PlayerTrait trait : traits) mask |= bit(trait);
+        return mask;
+    }
+
+    // For display; the simulation works on masks only
+    public static Set<PlayerTrait> toSet(long traits) {
+        Set<PlayerTrait> set = EnumSet.noneOf(PlayerTrait.class);
+        for (long rest = traits; rest != 0; rest &= rest - 1) {
+            set.add(ALL[Long.numberOfTrailingZeros(rest)]);
+        }
+        return set;
+    }
+
+    // Overall rating from attributes and traits; shared by Player, PlayerState and DevelopmentKernel so all agree exactly
+    static double overallOf(double mechanical, double strategic, double softSkill, long traits) {
+        double base = (mechanical + strategic + softSkill) / 3.0;
+        return Math.min(100, base + mechanicalBonusOf(traits) * mechanical + strategicBonusOf(traits) * strategic
+                + softSkillBonusOf(traits) * softSkill);
+    }
+
+    // Summed per-point attribute bonuses of a mask, as used by overallOf
+    static double mechanicalBonusOf(long traits) {
+        return sum(MECHANICAL_BONUS, traits);
+    }
+
+    static double strategicBonusOf(long traits) {
+        return sum(STRATEGIC_BONUS, traits);
+    }
+
+    static double softSkillBonusOf(long traits) {
+        return sum(SOFT_SKILL_BONUS, traits);
+    }
+
+    private static double sum(double[][] table, long traits) {
+        double sum = 0;
+        for (int slice = 0; slice < SLICES; slice++) {
+            sum += table[slice][(int) (traits >>> (slice * 8)) & 0xFF];
+        }
+        return sum;
+    }
+
+    static double performanceMultiplier(long traits) {
+        double multiplier = 1.0;
+        for (int slice = 0; slice < SLICES; slice++) {
+            multiplier *= PERFORMANCE[slice][(int) (traits >>> (slice * 8)) & 0xFF];
+        }
+        return multiplier;
+    }
+
+    /**
+     * Synergy of a starting lineup. Every pair of starters is worth 0.5, plus 0.1 if either
+     * of them is a team captain and 0.15 if either is a synergy builder; the pair sum is
+     * normalized by 10. Rather than visiting every pair, holders of each trait are collected
+     * as one bit per starter and the pairs they touch are counted from the popcount. Trait
+     * combos present anywhere in the lineup add their bonus on top.
+     */
+    static double synergyOf(long[] starters) {
+        int n = starters.length;
+        long captains = 0, builders = 0, union = NONE;
+        for (int i = 0; i < n; i++) {
+            long traits = starters[i];
+            captains |= (traits >>> PlayerTrait.TEAM_CAPTAIN.ordinal() & 1) << i;
+            builders |= (traits >>> PlayerTrait.SYNERGY_BUILDER.ordinal() & 1) << i;
+            union |= traits;
+        }
+        double synergy = (0.5 * pairs(n) + 0.1 * pairsTouching(n, Long.bitCount(captains))
+                + 0.15 * pairsTouching(n, Long.bitCount(builders))) / 10.0;
+        for (int i = 0; i < COMBOS.length; i++) {
+            if ((union & COMBOS[i]) == COMBOS[i]) synergy += COMBO_SYNERGY[i];
+        }
+        return synergy;
+    }
+
+    private static int pairs(int n) {
+        return n * (n - 1) / 2;
+    }
+
+    // Pairs among n players that include at least one of the given holders
+    private static int pairsTouching(int n, int holders) {
+        return pairs(n) - pairs(n - holders);
+    }
+}
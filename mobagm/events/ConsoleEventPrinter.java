@@ -0,0 +1,110 @@
+// ConsoleEventPrinter.java
+package com.mobagm.events;
+
+import com.mobagm.core.Enums.Region;
+import com.mobagm.core.SimulationLog;
+import com.mobagm.events.SimulationEvent.*;
+import java.util.*;
+
+// Formats progress events as the familiar console output and writes them to SimulationLog
+public class ConsoleEventPrinter implements SimulationListener {
+    // Per-match and per-game events are too frequent for the console
+    public static final Kind[] KINDS = {
+            Kind.YEAR_STARTED, Kind.SPLIT_STARTED, Kind.TOURNAMENT_STARTED, Kind.TOURNAMENT_WON,
+            Kind.BYE_GRANTED, Kind.PLAYER_RETIRED, Kind.ROOKIES_GENERATED, Kind.FREE_AGENCY_UPDATED,
+            Kind.ALL_STARS_SELECTED, Kind.YEAR_COMPLETED
+    };
+
+    @Override
+    public void onEvent(SimulationEvent event) {
+        SimulationLog log = SimulationLog.current();
+        if (!log.isEnabled()) return;
+
+        switch (event.getKind()) {
+            case YEAR_STARTED:
+                log.println("\n=== YEAR " + ((YearStarted) event).getYear() + " ===");
+                break;
+            case SPLIT_STARTED: {
+                SplitStarted e = (SplitStarted) event;
+                log.println("\n--- " + e.getSplit() + " " + e.getYear() + " ---");
+                break;
+            }
+            case TOURNAMENT_STARTED: {
+                TournamentStarted e = (TournamentStarted) event;
+                log.println("\n=== " + e.getTournament() + " ===");
+                if (e.getParticipants() % 2 == 1) {
+                    log.println("Warning: Odd number of participants (" + e.getParticipants() + ")");
+                    log.println("One team will receive a bye each round");
+                }
+                break;
+            }
+            case TOURNAMENT_WON: {
+                TournamentWon e = (TournamentWon) event;
+                log.println(e.getTournament() + " Champion: " + e.getTeam());
+                break;
+            }
+            case BYE_GRANTED: {
+                ByeGranted e = (ByeGranted) event;
+                log.println(e.getTeam() + " receives a bye in round " + e.getRound());
+                break;
+            }
+            case PLAYER_RETIRED:
+                log.println(((PlayerRetired) event).getPlayer() + " has retired from professional play");
+                break;
+            case ROOKIES_GENERATED:
+                log.println("Generated " + ((RookiesGenerated) event).getCount() + " rookie players");
+                break;
+            case FREE_AGENCY_UPDATED:
+                log.println("Free agents available: " + ((FreeAgencyUpdated) event).getFreeAgents());
+                break;
+            case ALL_STARS_SELECTED:
+                printAllStars(log, (AllStarsSelected) event);
+                break;
+            case YEAR_COMPLETED:
+                printYearSummary(log, (YearCompleted) event);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void printAllStars(SimulationLog log, AllStarsSelected event) {
+        log.println("\n=== All-Star Event " + event.getYear() + " ===");
+        Region region = null;
+        for (PlayerLine player : event.getAllStars()) {
+            if (player.getRegion() != region) {
+                region = player.getRegion();
+                log.println("\n" + region.getDisplayName() + " All-Stars:");
+            }
+            log.println("  " + player.getRole() + ": " + player.getName() +
+                    " (" + player.getTeam() + ") - " + String.format("%.1f", player.getOverall()) + " OVR");
+        }
+    }
+
+    private void printYearSummary(SimulationLog log, YearCompleted event) {
+        log.println("\n=== " + event.getYear() + " YEAR SUMMARY ===");
+
+        log.println("\nRegional Champions:");
+        for (Map.Entry<Region, String> e : event.getRegionalChampions().entrySet()) {
+            log.println(e.getKey().getDisplayName() + ": " + e.getValue());
+        }
+
+        log.println("\nInternational Tournament Winners:");
+        for (Map.Entry<String, String> e : event.getTournamentWinners().entrySet()) {
+            log.println(e.getKey() + ": " + e.getValue());
+        }
+
+        log.println("\nTop Players by Region:");
+        Region region = null;
+        int rank = 0;
+        for (PlayerLine player : event.getTopPlayers()) {
+            if (player.getRegion() != region) {
+                region = player.getRegion();
+                rank = 0;
+                log.println(region.getDisplayName() + ":");
+            }
+            log.println("  " + (++rank) + ". " + player.getName() + " (" +
+                    player.getRole() + ") - " + String.format("%.1f", player.getOverall()) + " OVR");
+        }
+    }
+}
@@ -0,0 +1,183 @@
+// EventBus.java
+package com.mobagm.events;
+
+import com.mobagm.core.SimulationLog;
+import com.mobagm.events.SimulationEvent.Kind;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Routes simulation events to subscribers. Asynchronous subscribers (console, GUI, files,
+ * metrics) are fed from a RingBufferSink on its own thread, so publishing never waits on
+ * their I/O. The sink and its thread start with the first event delivered asynchronously,
+ * so a bus nobody publishes to costs no thread. Synchronous subscribers run inline on the
+ * publishing thread and should only do cheap bookkeeping.
+ *
+ * Publishers call isObserved(kind) before building an event, so kinds nobody listens to
+ * cost a single volatile read. Like SimulationLog, the active bus is process-wide; the
+ * default one prints to the console. A task run through defer() publishes to a recorder
+ * instead, so work spread over threads can have its events published in a fixed order.
+ */
+public final class EventBus {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static volatile EventBus current = withConsole();
+    // The recorder current() returns on a thread running a deferred task
+    private static final ThreadLocal<EventBus> DEFERRED = new ThreadLocal<>();
+
+    private final int capacity;
+    private final List<Subscription> asyncSubscriptions = new CopyOnWriteArrayList<>();
+    private final List<Subscription> syncSubscriptions = new CopyOnWriteArrayList<>();
+    private volatile Set<Kind> observed = EnumSet.noneOf(Kind.class);
+    private volatile Set<Kind> observedAsync = EnumSet.noneOf(Kind.class);
+    private volatile RingBufferSink sink;
+    private boolean closed;
+    // Non-null for a recorder, which keeps what is published instead of delivering it
+    private final List<SimulationEvent> recorded;
+
+    public EventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EventBus(int capacity) {
+        this.capacity = capacity;
+        this.recorded = null;
+    }
+
+    // Records for target, observing exactly what target observed when the recording started
+    private EventBus(EventBus target) {
+        this.capacity = 0;
+        this.recorded = new ArrayList<>();
+        this.observed = target.observed;
+    }
+
+    public static EventBus current() {
+        EventBus deferred = DEFERRED.get();
+        return deferred != null ? deferred : current;
+    }
+
+    public static void setCurrent(EventBus bus) { current = bus; }
+
+    /**
+     * Runs task with the events it publishes on this thread held back, and returns them in
+     * publication order. The caller hands them to publishAll once the order no longer
+     * depends on scheduling, e.g. region by region after a parallel split.
+     */
+    public static List<SimulationEvent> defer(Runnable task) {
+        EventBus recorder = new EventBus(current);
+        EventBus previous = DEFERRED.get();
+        DEFERRED.set(recorder);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) DEFERRED.remove(); else DEFERRED.set(previous);
+        }
+        return recorder.recorded;
+    }
+
+    public void publishAll(List<SimulationEvent> events) {
+        for (SimulationEvent event : events) publish(event);
+    }
+
+    // A bus with the console printer attached, as used by the interactive application
+    public static EventBus withConsole() {
+        EventBus bus = new EventBus();
+        bus.subscribe(new ConsoleEventPrinter(), ConsoleEventPrinter.KINDS);
+        return bus;
+    }
+
+    public boolean isObserved(Kind kind) {
+        return observed.contains(kind);
+    }
+
+    public void publish(SimulationEvent event) {
+        if (recorded != null) {
+            recorded.add(event);
+            return;
+        }
+        Kind kind = event.getKind();
+        for (Subscription s : syncSubscriptions) {
+            if (s.kinds.contains(kind)) s.listener.onEvent(event);
+        }
+        if (observedAsync.contains(kind)) {
+            RingBufferSink s = sink;
+            if (s == null) s = startSink();
+            if (s != null) s.offer(event);
+        }
+    }
+
+    // Null once the bus is closed; events published after close() are dropped
+    private synchronized RingBufferSink startSink() {
+        if (sink == null && !closed) {
+            sink = new RingBufferSink(capacity, this::dispatch);
+        }
+        return sink;
+    }
+
+    // Subscribes on the consumer thread; no kinds means every kind
+    public synchronized void subscribe(SimulationListener listener, Kind... kinds) {
+        asyncSubscriptions.add(new Subscription(listener, kinds));
+        updateObserved();
+    }
+
+    public synchronized void subscribeSynchronous(SimulationListener listener, Kind... kinds) {
+        syncSubscriptions.add(new Subscription(listener, kinds));
+        updateObserved();
+    }
+
+    public synchronized void unsubscribe(SimulationListener listener) {
+        asyncSubscriptions.removeIf(s -> s.listener == listener);
+        syncSubscriptions.removeIf(s -> s.listener == listener);
+        updateObserved();
+    }
+
+    private void updateObserved() {
+        Set<Kind> async = EnumSet.noneOf(Kind.class);
+        for (Subscription s : asyncSubscriptions) async.addAll(s.kinds);
+        Set<Kind> all = EnumSet.copyOf(async);
+        for (Subscription s : syncSubscriptions) all.addAll(s.kinds);
+        observedAsync = async;
+        observed = all;
+    }
+
+    private void dispatch(SimulationEvent event) {
+        Kind kind = event.getKind();
+        for (Subscription s : asyncSubscriptions) {
+            if (s.kinds.contains(kind)) deliver(s.listener, event);
+        }
+    }
+
+    // A failing subscriber is reported and skipped; the ones after it still get the event
+    private static void deliver(SimulationListener listener, SimulationEvent event) {
+        try {
+            listener.onEvent(event);
+        } catch (RuntimeException e) {
+            SimulationLog.current().println("Event subscriber " + listener.getClass().getName()
+                    + " failed on " + event.getKind() + ": " + e);
+        }
+    }
+
+    // Blocks until asynchronous subscribers have seen everything published so far
+    public synchronized void flush() {
+        if (sink != null) sink.flush();
+    }
+
+    public synchronized void close() {
+        closed = true;
+        if (sink != null) sink.close();
+    }
+
+    public synchronized long getDroppedCount() {
+        return sink == null ? 0 : sink.getDroppedCount();
+    }
+
+    private static final class Subscription {
+        final SimulationListener listener;
+        final Set<Kind> kinds;
+
+        Subscription(SimulationListener listener, Kind[] kinds) {
+            this.listener = listener;
+            this.kinds = kinds.length == 0 ? EnumSet.allOf(Kind.class) : EnumSet.copyOf(Arrays.asList(kinds));
+        }
+    }
+}
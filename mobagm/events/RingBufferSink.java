@@ -0,0 +1,130 @@
+// RingBufferSink.java
+package com.mobagm.events;
+
+import com.mobagm.core.SimulationLog;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free multi-producer, single-consumer queue drained by a daemon thread.
+ * Simulation threads publish with one CAS and never block: when the buffer is full the
+ * event is dropped and counted. Each slot carries a sequence number (Vyukov's bounded
+ * queue), so producers claim slots with a CAS on the tail and the consumer never locks.
+ */
+public final class RingBufferSink {
+    private static final long IDLE_PARK_NANOS = 1_000_000L;
+
+    private final int mask;
+    private final AtomicReferenceArray<SimulationEvent> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long head; // written only by the consumer
+    private volatile boolean running = true;
+
+    private final Consumer<SimulationEvent> consumer;
+    private final Thread thread;
+
+    public RingBufferSink(int capacity, Consumer<SimulationEvent> consumer) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.consumer = consumer;
+        this.thread = new Thread(this::drainLoop, "mobagm-events");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // Returns false (and counts a drop) if the buffer is full or the sink is closed
+    public boolean offer(SimulationEvent event) {
+        if (!running) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long sequence = sequences.get(index);
+            long difference = sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, event);
+                    sequences.set(index, position + 1); // publishes the slot to the consumer
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                dropped.incrementAndGet();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private SimulationEvent poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        SimulationEvent event = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, position + mask + 1); // frees the slot for the next lap
+        head = position + 1;
+        return event;
+    }
+
+    private void drainLoop() {
+        while (true) {
+            SimulationEvent event = poll();
+            if (event != null) {
+                try {
+                    consumer.accept(event);
+                } catch (RuntimeException e) {
+                    // EventBus reports failing subscribers itself; this only keeps the drain thread going
+                    SimulationLog.current().println("Event consumer failed on " + event.getKind() + ": " + e);
+                }
+            } else if (!running && head == tail.get()) {
+                return;
+            } else {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Waits until every event accepted before the call has been consumed. Meant for the end
+     * of a run or before handing the console back to the menu, not for the hot path.
+     */
+    public void flush() {
+        long target = tail.get();
+        while (head < target && thread.isAlive()) {
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+    }
+
+    // Drains what was accepted, then stops the consumer thread
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getDroppedCount() { return dropped.get(); }
+    public int getCapacity() { return mask + 1; }
+}
@@ -0,0 +1,259 @@
+// SimulationEvent.java
+package com.mobagm.events;
+
+import com.mobagm.core.Enums.Region;
+import com.mobagm.core.Enums.Role;
+import com.mobagm.core.Enums.Split;
+import java.util.*;
+
+/**
+ * Typed progress events published on the EventBus. Events are immutable and only carry
+ * names and numbers, never live Team or Player objects, because asynchronous subscribers
+ * read them on another thread after the simulation has moved on.
+ */
+public abstract class SimulationEvent {
+    public enum Kind {
+        YEAR_STARTED, SPLIT_STARTED, MATCH_COMPLETED, BARON_TAKEN, SPLIT_WON,
+        TOURNAMENT_STARTED, TOURNAMENT_WON, BYE_GRANTED, PLAYER_RETIRED,
+        ROOKIES_GENERATED, FREE_AGENCY_UPDATED, ALL_STARS_SELECTED, YEAR_COMPLETED
+    }
+
+    public abstract Kind getKind();
+
+    public static final class YearStarted extends SimulationEvent {
+        private final int year;
+
+        public YearStarted(int year) { this.year = year; }
+
+        @Override public Kind getKind() { return Kind.YEAR_STARTED; }
+        public int getYear() { return year; }
+    }
+
+    public static final class SplitStarted extends SimulationEvent {
+        private final int year;
+        private final Split split;
+
+        public SplitStarted(int year, Split split) {
+            this.year = year;
+            this.split = split;
+        }
+
+        @Override public Kind getKind() { return Kind.SPLIT_STARTED; }
+        public int getYear() { return year; }
+        public Split getSplit() { return split; }
+    }
+
+    public static final class MatchCompleted extends SimulationEvent {
+        private final long matchKey;
+        private final String tournament;
+        private final String team1;
+        private final String team2;
+        private final int team1Score;
+        private final int team2Score;
+
+        public MatchCompleted(long matchKey, String tournament, String team1, String team2,
+                              int team1Score, int team2Score) {
+            this.matchKey = matchKey;
+            this.tournament = tournament;
+            this.team1 = team1;
+            this.team2 = team2;
+            this.team1Score = team1Score;
+            this.team2Score = team2Score;
+        }
+
+        @Override public Kind getKind() { return Kind.MATCH_COMPLETED; }
+        public long getMatchKey() { return matchKey; }
+        public String getTournament() { return tournament; }
+        public String getTeam1() { return team1; }
+        public String getTeam2() { return team2; }
+        public int getTeam1Score() { return team1Score; }
+        public int getTeam2Score() { return team2Score; }
+        public String getWinner() { return team1Score > team2Score ? team1 : team2; }
+    }
+
+    public static final class BaronTaken extends SimulationEvent {
+        private final long matchKey;
+        private final int gameIndex;
+        private final String team;
+        private final double time;
+
+        public BaronTaken(long matchKey, int gameIndex, String team, double time) {
+            this.matchKey = matchKey;
+            this.gameIndex = gameIndex;
+            this.team = team;
+            this.time = time;
+        }
+
+        @Override public Kind getKind() { return Kind.BARON_TAKEN; }
+        public long getMatchKey() { return matchKey; }
+        public int getGameIndex() { return gameIndex; }
+        public String getTeam() { return team; }
+        public double getTime() { return time; }
+    }
+
+    public static final class SplitWon extends SimulationEvent {
+        private final Region region;
+        private final int year;
+        private final Split split;
+        private final String team;
+
+        public SplitWon(Region region, int year, Split split, String team) {
+            this.region = region;
+            this.year = year;
+            this.split = split;
+            this.team = team;
+        }
+
+        @Override public Kind getKind() { return Kind.SPLIT_WON; }
+        public Region getRegion() { return region; }
+        public int getYear() { return year; }
+        public Split getSplit() { return split; }
+        public String getTeam() { return team; }
+    }
+
+    public static final class TournamentStarted extends SimulationEvent {
+        private final String tournament;
+        private final int participants;
+
+        public TournamentStarted(String tournament, int participants) {
+            this.tournament = tournament;
+            this.participants = participants;
+        }
+
+        @Override public Kind getKind() { return Kind.TOURNAMENT_STARTED; }
+        public String getTournament() { return tournament; }
+        public int getParticipants() { return participants; }
+    }
+
+    public static final class TournamentWon extends SimulationEvent {
+        private final String tournament;
+        private final String team;
+
+        public TournamentWon(String tournament, String team) {
+            this.tournament = tournament;
+            this.team = team;
+        }
+
+        @Override public Kind getKind() { return Kind.TOURNAMENT_WON; }
+        public String getTournament() { return tournament; }
+        public String getTeam() { return team; }
+    }
+
+    public static final class ByeGranted extends SimulationEvent {
+        private final String tournament;
+        private final String team;
+        private final int round;
+
+        public ByeGranted(String tournament, String team, int round) {
+            this.tournament = tournament;
+            this.team = team;
+            this.round = round;
+        }
+
+        @Override public Kind getKind() { return Kind.BYE_GRANTED; }
+        public String getTournament() { return tournament; }
+        public String getTeam() { return team; }
+        public int getRound() { return round; }
+    }
+
+    public static final class PlayerRetired extends SimulationEvent {
+        private final String player;
+        private final Role role;
+        private final int age;
+        private final String team;
+
+        public PlayerRetired(String player, Role role, int age, String team) {
+            this.player = player;
+            this.role = role;
+            this.age = age;
+            this.team = team;
+        }
+
+        @Override public Kind getKind() { return Kind.PLAYER_RETIRED; }
+        public String getPlayer() { return player; }
+        public Role getRole() { return role; }
+        public int getAge() { return age; }
+        public String getTeam() { return team; }
+    }
+
+    public static final class RookiesGenerated extends SimulationEvent {
+        private final int year;
+        private final int count;
+
+        public RookiesGenerated(int year, int count) {
+            this.year = year;
+            this.count = count;
+        }
+
+        @Override public Kind getKind() { return Kind.ROOKIES_GENERATED; }
+        public int getYear() { return year; }
+        public int getCount() { return count; }
+    }
+
+    public static final class FreeAgencyUpdated extends SimulationEvent {
+        private final int freeAgents;
+
+        public FreeAgencyUpdated(int freeAgents) { this.freeAgents = freeAgents; }
+
+        @Override public Kind getKind() { return Kind.FREE_AGENCY_UPDATED; }
+        public int getFreeAgents() { return freeAgents; }
+    }
+
+    public static final class AllStarsSelected extends SimulationEvent {
+        private final int year;
+        private final List<PlayerLine> allStars;
+
+        public AllStarsSelected(int year, List<PlayerLine> allStars) {
+            this.year = year;
+            this.allStars = List.copyOf(allStars);
+        }
+
+        @Override public Kind getKind() { return Kind.ALL_STARS_SELECTED; }
+        public int getYear() { return year; }
+        public List<PlayerLine> getAllStars() { return allStars; }
+    }
+
+    public static final class YearCompleted extends SimulationEvent {
+        private final int year;
+        private final Map<Region, String> regionalChampions;
+        private final Map<String, String> tournamentWinners;
+        private final List<PlayerLine> topPlayers;
+
+        public YearCompleted(int year, Map<Region, String> regionalChampions,
+                             Map<String, String> tournamentWinners, List<PlayerLine> topPlayers) {
+            this.year = year;
+            this.regionalChampions = Collections.unmodifiableMap(new EnumMap<>(regionalChampions));
+            this.tournamentWinners = Collections.unmodifiableMap(new LinkedHashMap<>(tournamentWinners));
+            this.topPlayers = List.copyOf(topPlayers);
+        }
+
+        @Override public Kind getKind() { return Kind.YEAR_COMPLETED; }
+        public int getYear() { return year; }
+        public Map<Region, String> getRegionalChampions() { return regionalChampions; }
+        public Map<String, String> getTournamentWinners() { return tournamentWinners; }
+        public List<PlayerLine> getTopPlayers() { return topPlayers; }
+    }
+
+    // A player as shown in all-star and year-end listings, captured at publish time
+    public static final class PlayerLine {
+        private final Region region;
+        private final Role role;
+        private final String name;
+        private final String team;
+        private final double overall;
+
+        public PlayerLine(Region region, Role role, String name, String team, double overall) {
+            this.region = region;
+            this.role = role;
+            this.name = name;
+            this.team = team;
+            this.overall = overall;
+        }
+
+        public Region getRegion() { return region; }
+        public Role getRole() { return role; }
+        public String getName() { return name; }
+        public String getTeam() { return team; }
+        public double getOverall() { return overall; }
+    }
+}
@@ -0,0 +1,6 @@
+// SimulationListener.java
+package com.mobagm.events;
+
+public interface SimulationListener {
+    void onEvent(SimulationEvent event);
+}
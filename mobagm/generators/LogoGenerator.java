@@ -2,8 +2,17 @@
 package com.mobagm.generators;
 
 import com.mobagm.core.Enums.Region;
+import com.mobagm.core.RandomStream;
+import com.mobagm.core.SimulationRandom;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * SVG team logos as base64 data URLs. A logo depends only on the team name and region, so
+ * teams generate theirs on first use. Finished logos are cached by design (shape, colors,
+ * initials and region); teams that land on the same design share a single string.
+ */
 public class LogoGenerator {
     private static final String[] COLORS = {
             "#FF6B6B", "#4ECDC4", "#45B7D1", "#96CEB4", "#FFEAA7", "#DDA0DD", "#98D8C8",
@@ -22,66 +31,196 @@ public class LogoGenerator {
             "🌊", "⚓", "🗡️", "🏹", "🎯", "💫", "🌙", "☄️", "🌀", "💥", "🔱", "⚜️"
     };
 
+    private static final byte[] BASE64 =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+    private static final String DATA_URL_PREFIX = "data:image/svg+xml;base64,";
+    // Fixed so a team looks the same in every world, which lets all worlds share the cache
+    private static final long LOGO_KEY = 0x1F0C0A5EEDL;
+
+    private static final Map<Design, String> cache = new ConcurrentHashMap<>();
+
     public static String generateTeamLogo(String teamName, Region region) {
-        Random random = new Random();
-
-        String primaryColor = COLORS[random.nextInt(COLORS.length)];
-        String secondaryColor = COLORS[random.nextInt(COLORS.length)];
-        String shape = SHAPES[random.nextInt(SHAPES.length)];
-        String symbol = SYMBOLS[random.nextInt(SYMBOLS.length)];
-
-        // Generate SVG logo
-        StringBuilder svg = new StringBuilder();
-        svg.append("<svg width=\"100\" height=\"100\" xmlns=\"http://www.w3.org/2000/svg\">");
-
-        // Background shape
-        switch (shape) {
-            case "shield":
-                svg.append("<path d=\"M50 10 L80 30 L80 70 L50 90 L20 70 L20 30 Z\" ")
-                        .append("fill=\"").append(primaryColor).append("\" stroke=\"").append(secondaryColor).append("\" stroke-width=\"2\"/>");
-                break;
-            case "circle":
-                svg.append("<circle cx=\"50\" cy=\"50\" r=\"40\" fill=\"").append(primaryColor)
-                        .append("\" stroke=\"").append(secondaryColor).append("\" stroke-width=\"3\"/>");
-                break;
-            case "hexagon":
-                svg.append("<polygon points=\"50,10 80,30 80,70 50,90 20,70 20,30\" ")
-                        .append("fill=\"").append(primaryColor).append("\" stroke=\"").append(secondaryColor).append("\" stroke-width=\"2\"/>");
-                break;
-            case "diamond":
-                svg.append("<polygon points=\"50,10 80,50 50,90 20,50\" ")
-                        .append("fill=\"").append(primaryColor).append("\" stroke=\"").append(secondaryColor).append("\" stroke-width=\"2\"/>");
-                break;
-            case "star":
-                svg.append("<polygon points=\"50,10 55,35 80,35 62,52 70,77 50,65 30,77 38,52 20,35 45,35\" ")
-                        .append("fill=\"").append(primaryColor).append("\" stroke=\"").append(secondaryColor).append("\" stroke-width=\"2\"/>");
-                break;
-            case "triangle":
-                svg.append("<polygon points=\"50,10 80,80 20,80\" ")
-                        .append("fill=\"").append(primaryColor).append("\" stroke=\"").append(secondaryColor).append("\" stroke-width=\"2\"/>");
-                break;
-            case "square":
-                svg.append("<rect x=\"15\" y=\"15\" width=\"70\" height=\"70\" ")
-                        .append("fill=\"").append(primaryColor).append("\" stroke=\"").append(secondaryColor).append("\" stroke-width=\"3\"/>");
-                break;
+        return cache.computeIfAbsent(Design.of(teamName, region), design -> {
+            Renderer renderer = new Renderer();
+            int length = renderer.render(design);
+            return new String(renderer.getBuffer(), 0, length, StandardCharsets.US_ASCII);
+        });
+    }
+
+    public static int getCachedDesignCount() {
+        return cache.size();
+    }
+
+    // Everything that shows in a logo; equal designs render to identical bytes
+    private static final class Design {
+        private final int shape;
+        private final String primaryColor;
+        private final String secondaryColor;
+        private final String initials;
+        private final Region region;
+
+        private Design(int shape, String primaryColor, String secondaryColor, String initials, Region region) {
+            this.shape = shape;
+            this.primaryColor = primaryColor;
+            this.secondaryColor = secondaryColor;
+            this.initials = initials;
+            this.region = region;
+        }
+
+        static Design of(String teamName, Region region) {
+            RandomStream random = new RandomStream(SimulationRandom.derive(
+                    SimulationRandom.derive(LOGO_KEY, teamName.hashCode()), region.ordinal()));
+            String primaryColor = COLORS[random.nextInt(COLORS.length)];
+            String secondaryColor = COLORS[random.nextInt(COLORS.length)];
+            int shape = random.nextInt(SHAPES.length);
+            return new Design(shape, primaryColor, secondaryColor, getTeamInitials(teamName), region);
         }
 
-        // Team initials or symbol
-        String initials = getTeamInitials(teamName);
-        svg.append("<text x=\"50\" y=\"58\" font-family=\"Arial, sans-serif\" font-size=\"24\" font-weight=\"bold\" ")
-                .append("text-anchor=\"middle\" fill=\"").append(secondaryColor).append("\">")
-                .append(initials).append("</text>");
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Design)) return false;
+            Design d = (Design) o;
+            return shape == d.shape && primaryColor.equals(d.primaryColor) && secondaryColor.equals(d.secondaryColor)
+                    && initials.equals(d.initials) && region == d.region;
+        }
 
-        // Region indicator
-        svg.append("<text x=\"50\" y=\"95\" font-family=\"Arial, sans-serif\" font-size=\"8\" ")
-                .append("text-anchor=\"middle\" fill=\"").append(secondaryColor).append("\">")
-                .append(region.name()).append("</text>");
+        @Override
+        public int hashCode() {
+            return Objects.hash(shape, primaryColor, secondaryColor, initials, region);
+        }
+    }
 
-        svg.append("</svg>");
+    /**
+     * Renders logo data URLs straight into a reusable byte buffer, without building any
+     * strings. For bulk work such as exporting every team's logo; each render overwrites the
+     * previous one. Not thread-safe; use one renderer per thread.
+     */
+    public static final class Renderer {
+        private byte[] svg = new byte[1024];
+        private int svgLength;
+        private byte[] buffer = new byte[2048];
+
+        // Renders a team's logo and returns the length of the data URL now at the start of getBuffer()
+        public int render(String teamName, Region region) {
+            return render(Design.of(teamName, region));
+        }
 
-        // Convert to data URL
-        String svgData = svg.toString();
-        return "data:image/svg+xml;base64," + Base64.getEncoder().encodeToString(svgData.getBytes());
+        public byte[] getBuffer() {
+            return buffer;
+        }
+
+        private int render(Design design) {
+            svgLength = 0;
+            append("<svg width=\"100\" height=\"100\" xmlns=\"http://www.w3.org/2000/svg\">");
+
+            // Background shape
+            switch (SHAPES[design.shape]) {
+                case "shield":
+                    append("<path d=\"M50 10 L80 30 L80 70 L50 90 L20 70 L20 30 Z\" ");
+                    appendFill(design, "2");
+                    break;
+                case "circle":
+                    append("<circle cx=\"50\" cy=\"50\" r=\"40\" ");
+                    appendFill(design, "3");
+                    break;
+                case "hexagon":
+                    append("<polygon points=\"50,10 80,30 80,70 50,90 20,70 20,30\" ");
+                    appendFill(design, "2");
+                    break;
+                case "diamond":
+                    append("<polygon points=\"50,10 80,50 50,90 20,50\" ");
+                    appendFill(design, "2");
+                    break;
+                case "star":
+                    append("<polygon points=\"50,10 55,35 80,35 62,52 70,77 50,65 30,77 38,52 20,35 45,35\" ");
+                    appendFill(design, "2");
+                    break;
+                case "triangle":
+                    append("<polygon points=\"50,10 80,80 20,80\" ");
+                    appendFill(design, "2");
+                    break;
+                case "square":
+                    append("<rect x=\"15\" y=\"15\" width=\"70\" height=\"70\" ");
+                    appendFill(design, "3");
+                    break;
+            }
+
+            // Team initials
+            append("<text x=\"50\" y=\"58\" font-family=\"Arial, sans-serif\" font-size=\"24\" font-weight=\"bold\" ");
+            append("text-anchor=\"middle\" fill=\"");
+            append(design.secondaryColor);
+            append("\">");
+            append(design.initials);
+            append("</text>");
+
+            // Region indicator
+            append("<text x=\"50\" y=\"95\" font-family=\"Arial, sans-serif\" font-size=\"8\" ");
+            append("text-anchor=\"middle\" fill=\"");
+            append(design.secondaryColor);
+            append("\">");
+            append(design.region.name());
+            append("</text>");
+
+            append("</svg>");
+            return encodeDataUrl();
+        }
+
+        private void appendFill(Design design, String strokeWidth) {
+            append("fill=\"");
+            append(design.primaryColor);
+            append("\" stroke=\"");
+            append(design.secondaryColor);
+            append("\" stroke-width=\"");
+            append(strokeWidth);
+            append("\"/>");
+        }
+
+        // UTF-8 without an intermediate array for the usual all-ASCII text
+        private void append(String s) {
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c >= 0x80) {
+                    appendBytes(s.substring(i).getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                if (svgLength == svg.length) svg = Arrays.copyOf(svg, svg.length * 2);
+                svg[svgLength++] = (byte) c;
+            }
+        }
+
+        private void appendBytes(byte[] bytes) {
+            if (svgLength + bytes.length > svg.length) {
+                svg = Arrays.copyOf(svg, Math.max(svg.length * 2, svgLength + bytes.length));
+            }
+            System.arraycopy(bytes, 0, svg, svgLength, bytes.length);
+            svgLength += bytes.length;
+        }
+
+        // Writes the data URL prefix and the padded base64 of the SVG into buffer
+        private int encodeDataUrl() {
+            int length = DATA_URL_PREFIX.length() + (svgLength + 2) / 3 * 4;
+            if (length > buffer.length) buffer = new byte[Math.max(buffer.length * 2, length)];
+
+            int out = 0;
+            for (int i = 0; i < DATA_URL_PREFIX.length(); i++) buffer[out++] = (byte) DATA_URL_PREFIX.charAt(i);
+            int i = 0;
+            for (; i + 2 < svgLength; i += 3) {
+                int bits = (svg[i] & 0xFF) << 16 | (svg[i + 1] & 0xFF) << 8 | (svg[i + 2] & 0xFF);
+                buffer[out++] = BASE64[bits >>> 18];
+                buffer[out++] = BASE64[(bits >>> 12) & 0x3F];
+                buffer[out++] = BASE64[(bits >>> 6) & 0x3F];
+                buffer[out++] = BASE64[bits & 0x3F];
+            }
+            int remaining = svgLength - i;
+            if (remaining > 0) {
+                int bits = (svg[i] & 0xFF) << 16 | (remaining == 2 ? (svg[i + 1] & 0xFF) << 8 : 0);
+                buffer[out++] = BASE64[bits >>> 18];
+                buffer[out++] = BASE64[(bits >>> 12) & 0x3F];
+                buffer[out++] = remaining == 2 ? BASE64[(bits >>> 6) & 0x3F] : (byte) '=';
+                buffer[out++] = '=';
+            }
+            return out;
+        }
     }
 
     private static String getTeamInitials(String teamName) {
@@ -1,8 +1,23 @@
 // NameGenerator.java
 package com.mobagm.generators;
 
+import com.mobagm.core.RandomStream;
+import com.mobagm.core.SimulationRandom;
+import com.mobagm.core.SimulationRandom.Domain;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Unique player names in constant time. The n-th name is read straight off a keyed
+ * permutation of every first/last pair, so nothing has to remember which names are taken
+ * and the generator never retries. Once all pairs of a round are used the next round walks
+ * a fresh permutation with a suffix ("Alex Smith II", "Alex Smith III", ...), so the name
+ * space never runs out.
+ *
+ * Names are handed out as packed codes (round, first and last name index) so players can
+ * keep them as a few shorts and only build the string when it is displayed. Each world has
+ * its own generator, so one world's position in the sequence never moves another's.
+ */
 public class NameGenerator {
     private static final List<String> FIRST_NAMES = Arrays.asList(
             "Alex", "Jordan", "Casey", "Taylor", "Morgan", "Avery", "Riley", "Quinn", "Sage", "River",
@@ -71,25 +86,85 @@ public class NameGenerator {
             "Moody", "Vang", "Frazier", "Deleon", "Huff", "Malone", "Durham", "Carlson", "Benson", "Ingram"
     );
 
-    private static Set<String> usedNames = new HashSet<>();
+    private static final String[] FIRST = distinct(FIRST_NAMES);
+    private static final String[] LAST = distinct(LAST_NAMES);
+    private static final long PAIRS = (long) FIRST.length * LAST.length;
 
-    public static String generatePlayerName() {
-        String fullName;
-        do {
-            String firstName = FIRST_NAMES.get(new Random().nextInt(FIRST_NAMES.size()));
-            String lastName = LAST_NAMES.get(new Random().nextInt(LAST_NAMES.size()));
-            fullName = firstName + " " + lastName;
-        } while (usedNames.contains(fullName));
+    // The world's keys; each world walks its own permutations
+    private final SimulationRandom simulationRandom;
+    private final AtomicLong generatedCount = new AtomicLong();
 
-        usedNames.add(fullName);
-        return fullName;
+    public NameGenerator(SimulationRandom simulationRandom) {
+        this.simulationRandom = simulationRandom;
     }
 
-    public static void resetUsedNames() {
-        usedNames.clear();
+    public long generatePlayerName() {
+        return nameAt(generatedCount.getAndIncrement());
     }
 
-    public static int getUsedNameCount() {
-        return usedNames.size();
+    // Code of the index-th name in the sequence; distinct indices always give distinct names
+    long nameAt(long index) {
+        long round = index / PAIRS;
+        if (round > Short.MAX_VALUE) {
+            throw new IllegalStateException("Name space exhausted after " + index + " names");
+        }
+        long pair = permute(index % PAIRS, round);
+        return round << 32 | (pair / LAST.length) << 16 | pair % LAST.length;
+    }
+
+    public static short firstNameOf(long name) { return (short) (name >>> 16); }
+    public static short lastNameOf(long name) { return (short) name; }
+    public static short roundOf(long name) { return (short) (name >>> 32); }
+
+    public static String format(short firstName, short lastName, short round) {
+        String name = FIRST[firstName] + " " + LAST[lastName];
+        return round == 0 ? name : name + " " + toRoman(round + 1);
+    }
+
+    // Affine bijection of [0, PAIRS): a multiplier coprime to PAIRS plus an offset, both keyed by round
+    private long permute(long pair, long round) {
+        RandomStream random = new RandomStream(simulationRandom.key(Domain.NAMES, round));
+        long multiplier = 1 + (random.nextLong() >>> 1) % (PAIRS - 1);
+        while (gcd(multiplier, PAIRS) != 1) multiplier++;
+        long offset = (random.nextLong() >>> 1) % PAIRS;
+        return (pair * multiplier + offset) % PAIRS;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private static String toRoman(long number) {
+        long[] values = {1000, 900, 500, 400, 100, 90, 50, 40, 10, 9, 5, 4, 1};
+        String[] numerals = {"M", "CM", "D", "CD", "C", "XC", "L", "XL", "X", "IX", "V", "IV", "I"};
+        StringBuilder roman = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            for (; number >= values[i]; number -= values[i]) roman.append(numerals[i]);
+        }
+        return roman.toString();
+    }
+
+    // The source lists repeat some names; duplicates would repeat full names within a round
+    private static String[] distinct(List<String> names) {
+        return new LinkedHashSet<>(names).toArray(new String[0]);
+    }
+
+    public long getGeneratedCount() {
+        return generatedCount.get();
+    }
+
+    // Names available before suffixes start
+    public static long getNamesPerRound() {
+        return PAIRS;
+    }
+
+    // Puts the generator back where a saved world left it, so new names continue the sequence
+    public void restore(long count) {
+        generatedCount.set(count);
     }
 }
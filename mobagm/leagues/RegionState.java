@@ -0,0 +1,87 @@
+// RegionState.java
+package com.mobagm.leagues;
+
+import com.mobagm.core.Enums.Split;
+import com.mobagm.entities.Team;
+
+import java.util.*;
+
+/**
+ * Immutable copy of a regional league's standings: division membership in order and each
+ * team's win/loss record. roundsPlayed tells whether it was captured mid-split.
+ */
+public final class RegionState {
+    private final int year;
+    private final Split split;
+    private final int roundsPlayed;
+    private final List<Team> championsTeams;
+    private final List<Team> challengersTeams;
+    private final Map<Team, Integer> index;
+    private final int[] wins;
+    private final int[] losses;
+
+    RegionState(int year, Split split, int roundsPlayed, List<Team> championsTeams,
+                List<Team> challengersTeams, Map<Team, RegionalLeague.LeagueRecord> records) {
+        this.year = year;
+        this.split = split;
+        this.roundsPlayed = roundsPlayed;
+        this.championsTeams = List.copyOf(championsTeams);
+        this.challengersTeams = List.copyOf(challengersTeams);
+        this.index = new IdentityHashMap<>();
+        this.wins = new int[championsTeams.size() + challengersTeams.size()];
+        this.losses = new int[wins.length];
+
+        int i = 0;
+        for (Team team : this.championsTeams) index.put(team, i++);
+        for (Team team : this.challengersTeams) index.put(team, i++);
+        for (Map.Entry<Team, Integer> e : index.entrySet()) {
+            RegionalLeague.LeagueRecord record = records.get(e.getKey());
+            if (record != null) {
+                wins[e.getValue()] = record.getWins();
+                losses[e.getValue()] = record.getLosses();
+            }
+        }
+    }
+
+    // A between-splits state with empty records; fill them in with withRecord
+    public static RegionState of(int year, Split split, List<Team> championsTeams, List<Team> challengersTeams) {
+        return new RegionState(year, split, 0, championsTeams, challengersTeams, Collections.emptyMap());
+    }
+
+    private RegionState(RegionState other, int[] wins, int[] losses) {
+        this.year = other.year;
+        this.split = other.split;
+        this.roundsPlayed = other.roundsPlayed;
+        this.championsTeams = other.championsTeams;
+        this.challengersTeams = other.challengersTeams;
+        this.index = other.index;
+        this.wins = wins;
+        this.losses = losses;
+    }
+
+    public RegionState withRecord(Team team, int teamWins, int teamLosses) {
+        int i = indexOf(team);
+        int[] newWins = wins.clone();
+        int[] newLosses = losses.clone();
+        newWins[i] = teamWins;
+        newLosses[i] = teamLosses;
+        return new RegionState(this, newWins, newLosses);
+    }
+
+    private int indexOf(Team team) {
+        Integer i = index.get(team);
+        if (i == null) {
+            throw new IllegalArgumentException(team.getName() + " is not in this region");
+        }
+        return i;
+    }
+
+    public boolean contains(Team team) { return index.containsKey(team); }
+    public int getWins(Team team) { return wins[indexOf(team)]; }
+    public int getLosses(Team team) { return losses[indexOf(team)]; }
+    public int getYear() { return year; }
+    public Split getSplit() { return split; }
+    public int getRoundsPlayed() { return roundsPlayed; }
+    public List<Team> getChampionsTeams() { return championsTeams; }
+    public List<Team> getChallengersTeams() { return challengersTeams; }
+}
@@ -5,8 +5,21 @@ import com.mobagm.core.Enums.Region;
 import com.mobagm.core.Enums.Split;
 import com.mobagm.core.Enums.League;
 import com.mobagm.core.Enums.MatchFormat;
+import com.mobagm.core.LeagueManager;
+import com.mobagm.core.RandomStream;
+import com.mobagm.core.SimulationRandom;
+import com.mobagm.core.SimulationRandom.Domain;
+import com.mobagm.entities.DevelopmentKernel;
+import com.mobagm.entities.PlayerRankings;
+import com.mobagm.entities.PlayerStore;
 import com.mobagm.entities.Team;
+import com.mobagm.events.EventBus;
+import com.mobagm.events.SimulationEvent.Kind;
+import com.mobagm.events.SimulationEvent.SplitWon;
+import com.mobagm.generators.NameGenerator;
+import com.mobagm.simulation.GamePool;
 import com.mobagm.simulation.Match;
+import com.mobagm.simulation.MatchRecord;
 import com.mobagm.simulation.MatchResult;
 
 import java.util.*;
@@ -14,7 +27,21 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class RegionalLeague {
+    // Spacing between regions in the match id space, so ids never collide across regions
+    private static final long MATCH_ID_STRIDE = 1_000_000L;
+    // Rounds smaller than this are not worth fanning out across threads
+    private static final int PARALLEL_ROUND_THRESHOLD = 8;
+    public static final int DEFAULT_DETAILED_SPLITS = 1;
+    public static final int DEFAULT_RECORDED_SPLITS = 12;
+    // A split is at most 146 regular-season BO1s and 21 playoff games
+    private static final int POOLED_GAMES = 192;
+
     private final Region region;
+    // The world's keys and store, where this league's generated players live, its rankings and names
+    private final SimulationRandom simulationRandom;
+    private final PlayerStore playerStore;
+    private final PlayerRankings playerRankings;
+    private final NameGenerator nameGenerator;
     private Split currentSplit;
     private int currentYear;
     private final List<Team> championsTeams;
@@ -26,9 +53,32 @@ public class RegionalLeague {
     private boolean isPlayoffsComplete;
     private final List<Team> promotedTeams;
     private final List<Team> relegatedTeams;
+    private int matchSequence;
+    private boolean parallelRounds;
+    private final List<List<Match>> schedule;
+    private boolean scheduleBuilt;
+    private int roundsPlayed;
+    private final DevelopmentKernel development = new DevelopmentKernel();
+    // Games of trimmed splits, reused by the next one
+    private final GamePool gamePool = new GamePool(POOLED_GAMES);
+
+    // Finished splits: live matches (with games) for the most recent few, compact records further back
+    private final Deque<List<Match>> detailedSplits;
+    private final Deque<SplitHistory> history;
+    private int detailedSplitLimit = DEFAULT_DETAILED_SPLITS;
+    private int recordedSplitLimit = DEFAULT_RECORDED_SPLITS;
 
-    public RegionalLeague(Region region) {
+    // Running totals across all splits, for yearly statistics
+    private long matchesPlayed;
+    private long gamesPlayed;
+    private double totalGameTime;
+
+    public RegionalLeague(Region region, LeagueManager world) {
         this.region             = region;
+        this.simulationRandom   = world.getSimulationRandom();
+        this.playerStore        = world.getPlayerStore();
+        this.playerRankings     = world.getPlayerRankings();
+        this.nameGenerator      = world.getNameGenerator();
         this.currentSplit       = Split.WINTER;
         this.currentYear        = 2024;
         this.championsTeams     = new ArrayList<>();
@@ -38,6 +88,9 @@ public class RegionalLeague {
         this.records            = new HashMap<>();
         this.promotedTeams      = new ArrayList<>();
         this.relegatedTeams     = new ArrayList<>();
+        this.schedule           = new ArrayList<>();
+        this.detailedSplits     = new ArrayDeque<>();
+        this.history            = new ArrayDeque<>();
         this.isPlayoffsComplete = false;
     }
 
@@ -51,7 +104,8 @@ public class RegionalLeague {
         String[] names = getRegionalTeamNames();
         for (int i = 0; i < 10; i++) {
             String name = region.name() + " " + names[i % names.length];
-            Team team = new Team(name, region, League.CHAMPIONS_SERIES);
+            Team team = new Team(simulationRandom, name, region, League.CHAMPIONS_SERIES);
+            team.setRankings(playerRankings);
             championsTeams.add(team);
             generateTeamRoster(team);
         }
@@ -61,7 +115,8 @@ public class RegionalLeague {
         String[] names = getRegionalTeamNames();
         for (int i = 0; i < 8; i++) {
             String name = region.name() + " Challengers " + (i + 1);
-            Team team = new Team(name, region, League.CHALLENGERS);
+            Team team = new Team(simulationRandom, name, region, League.CHALLENGERS);
+            team.setRankings(playerRankings);
             challengersTeams.add(team);
             generateTeamRoster(team);
         }
@@ -79,11 +134,12 @@ public class RegionalLeague {
     }
 
     private void generateTeamRoster(Team team) {
+        RandomStream random = new RandomStream(simulationRandom.key(Domain.ROSTER, team.getName().hashCode(), region.ordinal()));
         for (var role : com.mobagm.core.Enums.Role.values()) {
-            String playerName = com.mobagm.generators.NameGenerator.generatePlayerName();
-            var player = new com.mobagm.entities.Player(playerName, role, 18 + new Random().nextInt(10));
-            player.setSalary(50_000 + new Random().nextInt(200_000));
-            player.setContractLength(1 + new Random().nextInt(3));
+            long playerName = nameGenerator.generatePlayerName();
+            var player = new com.mobagm.entities.Player(playerStore, simulationRandom, playerName, role, 18 + random.nextInt(10));
+            player.setSalary(50_000 + random.nextInt(200_000));
+            player.setContractLength(1 + random.nextInt(3));
             team.signPlayer(player);
         }
     }
@@ -103,25 +159,111 @@ public class RegionalLeague {
     }
 
     private void simulateRegularSeason() {
-        simulateRoundRobin(championsTeams);
-        simulateRoundRobin(challengersTeams);
+        while (simulateNextRound()) {
+            // keep playing until the schedule is exhausted
+        }
+    }
+
+    // Builds this split's regular-season schedule; does nothing once it exists
+    public void startSplit() {
+        if (scheduleBuilt) return;
+
+        List<List<Match>> championsRounds = scheduleDoubleRoundRobin(championsTeams);
+        List<List<Match>> challengersRounds = scheduleDoubleRoundRobin(challengersTeams);
+
+        // The two divisions share no teams, so their rounds are played side by side
+        int rounds = Math.max(championsRounds.size(), challengersRounds.size());
+        for (int i = 0; i < rounds; i++) {
+            List<Match> round = new ArrayList<>();
+            if (i < championsRounds.size()) round.addAll(championsRounds.get(i));
+            if (i < challengersRounds.size()) round.addAll(challengersRounds.get(i));
+            schedule.add(round);
+        }
+        scheduleBuilt = true;
+    }
+
+    /**
+     * Plays the next regular-season round. Returns false once the regular season is over,
+     * which lets callers (e.g. live forecasts) observe the split between rounds.
+     */
+    public boolean simulateNextRound() {
+        startSplit();
+        if (roundsPlayed >= schedule.size()) return false;
+
+        List<Match> round = schedule.get(roundsPlayed++);
+        // Every team plays at most once per round, so the round's matches are independent
+        boolean parallel = parallelRounds && round.size() >= PARALLEL_ROUND_THRESHOLD;
+        Match.simulateAll(round, parallel);
+        for (Match m : round) {
+            regularSeasonMatches.add(m);
+            updateRecord(m.getResult());
+            countMatch(m.getResult());
+        }
+        return true;
     }
 
-    private void simulateRoundRobin(List<Team> teams) {
-        for (int i = 0; i < teams.size(); i++) {
-            for (int j = i + 1; j < teams.size(); j++) {
-                Team t1 = teams.get(i), t2 = teams.get(j);
-                simulateMatch(t1, t2, MatchFormat.BO1);
-                simulateMatch(t2, t1, MatchFormat.BO1);
+    public boolean isRegularSeasonComplete() {
+        return scheduleBuilt && roundsPlayed >= schedule.size();
+    }
+
+    // Rounds not yet played this split, in schedule order
+    public List<List<Match>> getRemainingRounds() {
+        startSplit();
+        return Collections.unmodifiableList(schedule.subList(roundsPlayed, schedule.size()));
+    }
+
+    /**
+     * Builds a double round robin with the circle method: one team stays fixed while the rest
+     * rotate, giving n-1 rounds (n rounds for odd n, with a bye) in which no team appears
+     * twice. The second half repeats the first with sides swapped.
+     */
+    private List<List<Match>> scheduleDoubleRoundRobin(List<Team> teams) {
+        List<Team> circle = new ArrayList<>(teams);
+        if (circle.size() % 2 == 1) {
+            circle.add(null); // bye
+        }
+
+        int n = circle.size();
+        List<List<Team[]>> firstHalf = new ArrayList<>();
+        for (int round = 0; round < n - 1; round++) {
+            List<Team[]> pairings = new ArrayList<>();
+            for (int i = 0; i < n / 2; i++) {
+                Team home = circle.get(i);
+                Team away = circle.get(n - 1 - i);
+                if (home == null || away == null) continue;
+                // Alternate the fixed team's side so home/away stays balanced
+                if (i == 0 && round % 2 == 1) {
+                    pairings.add(new Team[]{away, home});
+                } else {
+                    pairings.add(new Team[]{home, away});
+                }
             }
+            firstHalf.add(pairings);
+            circle.add(1, circle.remove(n - 1));
         }
+
+        List<List<Match>> rounds = new ArrayList<>();
+        for (List<Team[]> pairings : firstHalf) {
+            List<Match> round = new ArrayList<>();
+            for (Team[] p : pairings) {
+                round.add(new Match(p[0], p[1], MatchFormat.BO1, nextMatchKey(), gamePool));
+            }
+            rounds.add(round);
+        }
+        for (List<Team[]> pairings : firstHalf) {
+            List<Match> round = new ArrayList<>();
+            for (Team[] p : pairings) {
+                round.add(new Match(p[1], p[0], MatchFormat.BO1, nextMatchKey(), gamePool));
+            }
+            rounds.add(round);
+        }
+        return rounds;
     }
 
-    private void simulateMatch(Team a, Team b, MatchFormat format) {
-        Match m = new Match(a, b, format);
-        MatchResult r = m.simulate();
-        regularSeasonMatches.add(m);
-        updateRecord(r);
+    // Match ids follow schedule order, so keys do not depend on how matches are executed
+    private long nextMatchKey() {
+        return simulationRandom.matchKey(currentYear, currentSplit,
+                region.ordinal() * MATCH_ID_STRIDE + matchSequence++);
     }
 
     private void updateRecord(MatchResult r) {
@@ -146,15 +288,29 @@ public class RegionalLeague {
                 splitWinner.getStatistics().getChampionshipsWon() + 1
         );
         isPlayoffsComplete = true;
+
+        EventBus events = EventBus.current();
+        if (events.isObserved(Kind.SPLIT_WON)) {
+            events.publish(new SplitWon(region, currentYear, currentSplit, splitWinner.getName()));
+        }
     }
 
     private Team playoffMatch(Team a, Team b, MatchFormat fmt) {
-        Match m = new Match(a, b, fmt);
-        Team winner = m.simulate().getWinner();
+        Match m = new Match(a, b, fmt, nextMatchKey(), gamePool);
+        MatchResult result = m.simulate();
+        Team winner = result.getWinner();
         playoffMatches.add(m);
+        countMatch(result);
         return winner;
     }
 
+    private void countMatch(MatchResult result) {
+        int games = result.getTeam1Score() + result.getTeam2Score();
+        matchesPlayed++;
+        gamesPlayed += games;
+        totalGameTime += result.getAverageGameTime() * games;
+    }
+
     private void simulatePromotionRelegation() {
         List<Team> bottom = getBottomTeams(championsTeams, 2);
         List<Team> top     = getTopTeams(challengersTeams, 2);
@@ -188,6 +344,7 @@ public class RegionalLeague {
     }
 
     private void advanceToNextSplit() {
+        archiveSplit();
         currentSplit = switch (currentSplit) {
             case WINTER -> Split.SPRING;
             case SPRING -> Split.SUMMER;
@@ -195,15 +352,112 @@ public class RegionalLeague {
         };
         regularSeasonMatches.clear();
         playoffMatches.clear();
+        matchSequence     = 0;
+        schedule.clear();
+        scheduleBuilt     = false;
+        roundsPlayed      = 0;
         isPlayoffsComplete = false;
-        splitWinner       = null;
+        // splitWinner stays readable (MSI, yearly summary) until the next playoffs replace it
         records.values().forEach(LeagueRecord::reset);
-        championsTeams.forEach(Team::developRoster);
-        challengersTeams.forEach(Team::developRoster);
+        // Every player in the league develops in one pass before retirements are settled
+        championsTeams.forEach(team -> team.queueDevelopment(development));
+        challengersTeams.forEach(team -> team.queueDevelopment(development));
+        development.run();
+        championsTeams.forEach(Team::removeRetiredPlayers);
+        challengersTeams.forEach(Team::removeRetiredPlayers);
         promotedTeams.clear();
         relegatedTeams.clear();
     }
 
+    // Moves the finished split's matches into history, then trims history to the retention limits
+    private void archiveSplit() {
+        List<MatchRecord> regular = new ArrayList<>(regularSeasonMatches.size());
+        for (Match m : regularSeasonMatches) regular.add(MatchRecord.of(m));
+        List<MatchRecord> playoffs = new ArrayList<>(playoffMatches.size());
+        for (Match m : playoffMatches) playoffs.add(MatchRecord.of(m));
+        history.addLast(new SplitHistory(region, currentYear, currentSplit,
+                splitWinner == null ? 0 : splitWinner.getId(), regular, playoffs));
+
+        List<Match> played = new ArrayList<>(regularSeasonMatches.size() + playoffMatches.size());
+        played.addAll(regularSeasonMatches);
+        played.addAll(playoffMatches);
+        detailedSplits.addLast(played);
+
+        trimHistory();
+    }
+
+    private void trimHistory() {
+        while (detailedSplits.size() > detailedSplitLimit) {
+            detailedSplits.removeFirst().forEach(Match::release);
+        }
+        while (history.size() > recordedSplitLimit) {
+            history.removeFirst();
+        }
+    }
+
+    /**
+     * Sets how many finished splits keep their full Match and Game objects, and how many keep
+     * compact MatchRecords. Older splits are dropped, so memory stays flat over long runs.
+     */
+    public void setHistoryRetention(int detailedSplits, int recordedSplits) {
+        this.detailedSplitLimit = Math.max(0, detailedSplits);
+        this.recordedSplitLimit = Math.max(0, recordedSplits);
+        trimHistory();
+    }
+
+    public RegionState getState() {
+        return new RegionState(currentYear, currentSplit, roundsPlayed, championsTeams, challengersTeams, records);
+    }
+
+    /**
+     * Rolls standings back to a captured state. Played matches are not part of the state, so
+     * only states taken before the first round of a split can be restored.
+     */
+    public void restoreState(RegionState state) {
+        if (state.getRoundsPlayed() > 0) {
+            throw new IllegalStateException("Cannot restore a " + region + " state captured mid-split");
+        }
+        regularSeasonMatches.forEach(Match::release);
+        playoffMatches.forEach(Match::release);
+        regularSeasonMatches.clear();
+        playoffMatches.clear();
+        matchSequence = 0;
+        schedule.clear();
+        scheduleBuilt = false;
+        roundsPlayed = 0;
+        isPlayoffsComplete = false;
+        splitWinner = null;
+
+        currentYear = state.getYear();
+        currentSplit = state.getSplit();
+        championsTeams.clear();
+        championsTeams.addAll(state.getChampionsTeams());
+        challengersTeams.clear();
+        challengersTeams.addAll(state.getChallengersTeams());
+        records.clear();
+        Stream.concat(championsTeams.stream(), challengersTeams.stream()).forEach(team -> {
+            LeagueRecord record = new LeagueRecord(team);
+            record.wins = state.getWins(team);
+            record.losses = state.getLosses(team);
+            records.put(team, record);
+        });
+    }
+
+    /**
+     * Restores what a RegionState does not cover: the last split winner, the running match
+     * totals and the compact split history. Used when loading a saved world.
+     */
+    public void restoreProgress(Team splitWinner, long matchesPlayed, long gamesPlayed, double totalGameTime,
+                                List<SplitHistory> history) {
+        this.splitWinner = splitWinner;
+        this.matchesPlayed = matchesPlayed;
+        this.gamesPlayed = gamesPlayed;
+        this.totalGameTime = totalGameTime;
+        this.history.clear();
+        this.history.addAll(history);
+        trimHistory();
+    }
+
     public List<Team> getTopTeamsForInternational(int n) {
         return championsTeams.stream()
                 .sorted((a,b) -> Double.compare(b.getTeamStrength(), a.getTeamStrength()))
@@ -229,14 +483,26 @@ public class RegionalLeague {
     }
 
     // Getters for integration
+    public void setParallelRounds(boolean parallelRounds) { this.parallelRounds = parallelRounds; }
+
     public Region getRegion()                { return region; }
+    public SimulationRandom getSimulationRandom() { return simulationRandom; }
     public Split getCurrentSplit()          { return currentSplit; }
     public int getCurrentYear()             { return currentYear; }
+    public int getRoundsPlayed()            { return roundsPlayed; }
     public Team getSplitWinner()            { return splitWinner; }
+    public long getMatchesPlayed()          { return matchesPlayed; }
+    public long getGamesPlayed()            { return gamesPlayed; }
+    public double getTotalGameTime()        { return totalGameTime; }
+    public LeagueRecord getRecord(Team team) { return records.get(team); }
     public List<Team> getChampionsTeams()   { return Collections.unmodifiableList(championsTeams); }
     public List<Team> getChallengersTeams() { return Collections.unmodifiableList(challengersTeams); }
     public List<Team> getPromotedTeams()    { return Collections.unmodifiableList(promotedTeams); }
     public List<Team> getRelegatedTeams()   { return Collections.unmodifiableList(relegatedTeams); }
+    // Oldest first; the last entry is the most recently finished split
+    public List<SplitHistory> getHistory()  { return List.copyOf(history); }
+    public SplitHistory getLastSplit()      { return history.peekLast(); }
+    public List<List<Match>> getDetailedSplits() { return List.copyOf(detailedSplits); }
 
     public static class LeagueRecord {
         private final Team team;
@@ -0,0 +1,70 @@
+// SplitForecast.java
+package com.mobagm.leagues;
+
+import com.mobagm.entities.Team;
+
+import java.util.*;
+
+/**
+ * Result of a SplitForecaster run: per-team probabilities of each end-of-split outcome,
+ * estimated as the fraction of trials in which it happened.
+ */
+public class SplitForecast {
+    private final Team[] teams;
+    private final Map<Team, Integer> index;
+    private final int trials;
+    private final long[] playoffs;
+    private final long[] splitWins;
+    private final long[] relegations;
+    private final long[] promotions;
+    private final long[] msiQualifications;
+    private final long[] worldsQualifications;
+
+    SplitForecast(Team[] teams, int trials, long[] playoffs, long[] splitWins,
+                  long[] relegations, long[] promotions, long[] msiQualifications,
+                  long[] worldsQualifications) {
+        this.teams = teams;
+        this.trials = trials;
+        this.playoffs = playoffs;
+        this.splitWins = splitWins;
+        this.relegations = relegations;
+        this.promotions = promotions;
+        this.msiQualifications = msiQualifications;
+        this.worldsQualifications = worldsQualifications;
+
+        this.index = new IdentityHashMap<>();
+        for (int i = 0; i < teams.length; i++) {
+            index.put(teams[i], i);
+        }
+    }
+
+    public List<Team> getTeams() { return Collections.unmodifiableList(Arrays.asList(teams)); }
+    public int getTrials() { return trials; }
+
+    public double getPlayoffProbability(Team team) { return probability(playoffs, team); }
+    public double getSplitWinProbability(Team team) { return probability(splitWins, team); }
+    public double getRelegationProbability(Team team) { return probability(relegations, team); }
+    public double getPromotionProbability(Team team) { return probability(promotions, team); }
+    public double getMsiProbability(Team team) { return probability(msiQualifications, team); }
+    public double getWorldsProbability(Team team) { return probability(worldsQualifications, team); }
+
+    private double probability(long[] counts, Team team) {
+        Integer i = index.get(team);
+        return i == null ? 0.0 : (double) counts[i] / trials;
+    }
+
+    public void print() {
+        System.out.printf("%-20s   %8s %8s %8s %8s %8s %8s%n",
+                "Team", "Playoffs", "Win", "MSI", "Worlds", "Relegate", "Promote");
+        for (int i = 0; i < teams.length; i++) {
+            System.out.printf("%-20s : %7.1f%% %7.1f%% %7.1f%% %7.1f%% %7.1f%% %7.1f%%%n",
+                    teams[i].getName(),
+                    percent(playoffs[i]), percent(splitWins[i]), percent(msiQualifications[i]),
+                    percent(worldsQualifications[i]), percent(relegations[i]), percent(promotions[i]));
+        }
+    }
+
+    private double percent(long count) {
+        return 100.0 * count / trials;
+    }
+}
@@ -0,0 +1,297 @@
+// SplitForecaster.java
+package com.mobagm.leagues;
+
+import com.mobagm.core.Enums.MatchFormat;
+import com.mobagm.core.Enums.Role;
+import com.mobagm.core.Enums.Split;
+import com.mobagm.core.LeagueFork;
+import com.mobagm.core.RandomStream;
+import com.mobagm.core.SimulationRandom;
+import com.mobagm.core.SimulationRandom.Domain;
+import com.mobagm.entities.Player;
+import com.mobagm.entities.Team;
+import com.mobagm.entities.TeamStrength;
+import com.mobagm.simulation.Match;
+import com.mobagm.simulation.SeriesDistribution;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo forecast of the rest of a regional split. The league's records, remaining
+ * schedule, cached team strengths and expected draft scores are copied into primitive
+ * arrays once, then the rest of the split is replayed many times in parallel with the fast
+ * series sampler. Every trial has its own keyed random stream, so a forecast is
+ * reproducible for a given seed no matter how trials are spread over threads.
+ *
+ * Qualification rules mirror RegionalLeague and LeagueManager: top 6 by wins make playoffs,
+ * bottom 2 are relegated and top 2 Challengers promoted in Summer, the Spring winner goes to
+ * MSI, and the 3 strongest Champions teams after promotion/relegation go to Worlds. Worlds
+ * odds use current strengths; development at the end of the split is not modelled.
+ */
+public final class SplitForecaster {
+    public static final int DEFAULT_TRIALS = 10_000;
+
+    private static final int TRIALS_PER_CHUNK = 256;
+    private static final int PLAYOFF_TEAMS = 6;
+    private static final int RELEGATED_TEAMS = 2;
+    private static final int PROMOTED_TEAMS = 2;
+    private static final int WORLDS_TEAMS = 3;
+
+    private final Split split;
+    private final Team[] teams;
+    private final int championsCount;
+    private final int challengersCount;
+    private final int[] baseWins;
+    private final double[] teamStrength;
+    private final double[][] gameWinProbability;
+    private final int[] remainingTeam1;
+    private final int[] remainingTeam2;
+    private final int[] remainingGamesToWin;
+
+    private SplitForecaster(RegionalLeague league, List<Team> champions, List<Team> challengers,
+                            ToIntFunction<Team> wins, Function<Team, TeamStrength> strength,
+                            Function<Team, Map<Role, Player>> roster) {
+        this.split = league.getCurrentSplit();
+        this.championsCount = champions.size();
+        this.challengersCount = challengers.size();
+        this.teams = new Team[championsCount + challengersCount];
+
+        Map<Team, Integer> index = new IdentityHashMap<>();
+        for (int i = 0; i < championsCount; i++) teams[i] = champions.get(i);
+        for (int i = 0; i < challengersCount; i++) teams[championsCount + i] = challengers.get(i);
+
+        this.baseWins = new int[teams.length];
+        this.teamStrength = new double[teams.length];
+        double[] lateStrength = new double[teams.length];
+        double[] draftScore = new double[teams.length];
+        for (int i = 0; i < teams.length; i++) {
+            index.put(teams[i], i);
+            baseWins[i] = wins.applyAsInt(teams[i]);
+            TeamStrength s = strength.apply(teams[i]);
+            lateStrength[i] = s.getLateGameStrength();
+            teamStrength[i] = s.getStrength();
+            draftScore[i] = SeriesDistribution.expectedDraftScore(roster.apply(teams[i]));
+        }
+
+        // Strengths are frozen for the forecast, so every pairing's odds are computed once
+        this.gameWinProbability = new double[teams.length][teams.length];
+        for (int i = 0; i < teams.length; i++) {
+            for (int j = 0; j < teams.length; j++) {
+                gameWinProbability[i][j] = SeriesDistribution.gameWinProbability(lateStrength[i], lateStrength[j],
+                        draftScore[i] - draftScore[j]);
+            }
+        }
+
+        List<Match> remaining = new ArrayList<>();
+        for (List<Match> round : league.getRemainingRounds()) {
+            remaining.addAll(round);
+        }
+        this.remainingTeam1 = new int[remaining.size()];
+        this.remainingTeam2 = new int[remaining.size()];
+        this.remainingGamesToWin = new int[remaining.size()];
+        for (int m = 0; m < remaining.size(); m++) {
+            Match match = remaining.get(m);
+            remainingTeam1[m] = index.get(match.getTeam1());
+            remainingTeam2[m] = index.get(match.getTeam2());
+            remainingGamesToWin[m] = match.getFormat().getGamesToWin();
+        }
+    }
+
+    public static SplitForecast forecast(RegionalLeague league) {
+        return forecast(league, DEFAULT_TRIALS);
+    }
+
+    public static SplitForecast forecast(RegionalLeague league, int trials) {
+        long seed = league.getSimulationRandom().key(Domain.FORECAST, league.getCurrentYear(),
+                league.getCurrentSplit().ordinal(),
+                league.getRegion().ordinal() * 1000L + league.getRoundsPlayed());
+        return forecast(league, trials, seed);
+    }
+
+    public static SplitForecast forecast(RegionalLeague league, int trials, long seed) {
+        checkTrials(trials);
+        return new SplitForecaster(league, league.getChampionsTeams(), league.getChallengersTeams(),
+                team -> league.getRecord(team).getWins(), Team::getStrengthBreakdown, Team::getRoster)
+                .run(trials, seed);
+    }
+
+    /**
+     * Forecasts the league's remaining schedule from a what-if fork's standings and rosters
+     * instead of the live ones. The fork must have been taken at the league's current round.
+     */
+    public static SplitForecast forecast(RegionalLeague league, LeagueFork state, int trials, long seed) {
+        checkTrials(trials);
+        RegionState region = state.getRegionState(league.getRegion());
+        if (region.getYear() != league.getCurrentYear() || region.getSplit() != league.getCurrentSplit()
+                || region.getRoundsPlayed() != league.getRoundsPlayed()) {
+            throw new IllegalArgumentException("Fork does not match the current round of " + league.getRegion());
+        }
+        return new SplitForecaster(league, region.getChampionsTeams(), region.getChallengersTeams(),
+                state::getWins, state::getTeamStrength, team -> state.getTeamState(team).getRoster())
+                .run(trials, seed);
+    }
+
+    private static void checkTrials(int trials) {
+        if (trials <= 0) {
+            throw new IllegalArgumentException("trials must be positive: " + trials);
+        }
+    }
+
+    private SplitForecast run(int trials, long seed) {
+        int chunks = (trials + TRIALS_PER_CHUNK - 1) / TRIALS_PER_CHUNK;
+        Tally total = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> runChunk(seed, chunk * TRIALS_PER_CHUNK,
+                        Math.min(trials, (chunk + 1) * TRIALS_PER_CHUNK)))
+                .reduce(Tally::merge)
+                .orElseGet(() -> new Tally(teams.length));
+
+        return new SplitForecast(teams, trials,
+                total.playoffs, total.splitWins, total.relegations, total.promotions,
+                total.msiQualifications, total.worldsQualifications);
+    }
+
+    private Tally runChunk(long seed, int fromTrial, int toTrial) {
+        Tally tally = new Tally(teams.length);
+        RandomStream random = new RandomStream(0);
+        int[] wins = new int[teams.length];
+        int[] championsOrder = new int[championsCount];
+        int[] bottomOrder = new int[championsCount];
+        int[] challengersOrder = new int[challengersCount];
+        int[] worldsPool = new int[championsCount + PROMOTED_TEAMS];
+
+        for (int trial = fromTrial; trial < toTrial; trial++) {
+            random.reset(SimulationRandom.derive(seed, trial));
+            System.arraycopy(baseWins, 0, wins, 0, wins.length);
+
+            // Remaining regular season
+            for (int m = 0; m < remainingTeam1.length; m++) {
+                int a = remainingTeam1[m], b = remainingTeam2[m];
+                wins[playSeries(a, b, remainingGamesToWin[m], random)]++;
+            }
+
+            rankByWins(wins, championsOrder, 0, true);
+            rankByWins(wins, bottomOrder, 0, false);
+            rankByWins(wins, challengersOrder, championsCount, true);
+
+            for (int i = 0; i < Math.min(PLAYOFF_TEAMS, championsCount); i++) {
+                tally.playoffs[championsOrder[i]]++;
+            }
+
+            // Promotion/relegation only happens at the end of Summer
+            boolean summer = split == Split.SUMMER;
+            int relegated = summer ? Math.min(RELEGATED_TEAMS, championsCount) : 0;
+            int promoted = summer ? Math.min(PROMOTED_TEAMS, challengersCount) : 0;
+            for (int i = 0; i < relegated; i++) {
+                tally.relegations[bottomOrder[i]]++;
+            }
+            for (int i = 0; i < promoted; i++) {
+                tally.promotions[challengersOrder[i]]++;
+            }
+
+            if (championsCount >= PLAYOFF_TEAMS) {
+                int winner = playPlayoffs(championsOrder, random);
+                tally.splitWins[winner]++;
+                if (split == Split.SPRING) {
+                    tally.msiQualifications[winner]++;
+                }
+            }
+
+            if (summer) {
+                // Champions roster after the swap: survivors in order, then the promoted teams
+                int poolSize = 0;
+                for (int i = 0; i < championsCount; i++) {
+                    if (!isAmong(bottomOrder, relegated, i)) {
+                        worldsPool[poolSize++] = i;
+                    }
+                }
+                for (int i = 0; i < promoted; i++) {
+                    worldsPool[poolSize++] = challengersOrder[i];
+                }
+                for (int pick = 0; pick < Math.min(WORLDS_TEAMS, poolSize); pick++) {
+                    tally.worldsQualifications[takeStrongest(worldsPool, pick, poolSize)]++;
+                }
+            }
+        }
+        return tally;
+    }
+
+    // Same bracket as RegionalLeague.simulatePlayoffs
+    private int playPlayoffs(int[] seeds, RandomStream random) {
+        int semi1 = playSeries(seeds[2], seeds[5], MatchFormat.BO3.getGamesToWin(), random);
+        int semi2 = playSeries(seeds[3], seeds[4], MatchFormat.BO3.getGamesToWin(), random);
+        int final1 = playSeries(seeds[0], semi1, MatchFormat.BO5.getGamesToWin(), random);
+        int final2 = playSeries(seeds[1], semi2, MatchFormat.BO5.getGamesToWin(), random);
+        return playSeries(final1, final2, MatchFormat.BO5.getGamesToWin(), random);
+    }
+
+    private int playSeries(int a, int b, int gamesToWin, RandomStream random) {
+        int outcome = SeriesDistribution.sampleOutcome(gamesToWin, gameWinProbability[a][b], random.nextDouble());
+        return SeriesDistribution.isTeam1Win(gamesToWin, outcome) ? a : b;
+    }
+
+    // Stable insertion sort by wins, matching the stream sorts in RegionalLeague
+    private static void rankByWins(int[] wins, int[] order, int offset, boolean descending) {
+        for (int i = 0; i < order.length; i++) {
+            int team = offset + i;
+            int j = i;
+            while (j > 0 && (descending ? wins[order[j - 1]] < wins[team] : wins[order[j - 1]] > wins[team])) {
+                order[j] = order[j - 1];
+                j--;
+            }
+            order[j] = team;
+        }
+    }
+
+    private static boolean isAmong(int[] order, int count, int team) {
+        for (int i = 0; i < count; i++) {
+            if (order[i] == team) return true;
+        }
+        return false;
+    }
+
+    // Selection step of a stable sort by strength: moves the strongest remaining team to `pick`
+    private int takeStrongest(int[] pool, int pick, int size) {
+        int best = pick;
+        for (int i = pick + 1; i < size; i++) {
+            if (teamStrength[pool[i]] > teamStrength[pool[best]]) best = i;
+        }
+        int team = pool[best];
+        System.arraycopy(pool, pick, pool, pick + 1, best - pick);
+        pool[pick] = team;
+        return team;
+    }
+
+    private static final class Tally {
+        final long[] playoffs;
+        final long[] splitWins;
+        final long[] relegations;
+        final long[] promotions;
+        final long[] msiQualifications;
+        final long[] worldsQualifications;
+
+        Tally(int teams) {
+            playoffs = new long[teams];
+            splitWins = new long[teams];
+            relegations = new long[teams];
+            promotions = new long[teams];
+            msiQualifications = new long[teams];
+            worldsQualifications = new long[teams];
+        }
+
+        Tally merge(Tally other) {
+            for (int i = 0; i < playoffs.length; i++) {
+                playoffs[i] += other.playoffs[i];
+                splitWins[i] += other.splitWins[i];
+                relegations[i] += other.relegations[i];
+                promotions[i] += other.promotions[i];
+                msiQualifications[i] += other.msiQualifications[i];
+                worldsQualifications[i] += other.worldsQualifications[i];
+            }
+            return this;
+        }
+    }
+}
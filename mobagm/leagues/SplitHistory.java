@@ -0,0 +1,38 @@
+// SplitHistory.java
+package com.mobagm.leagues;
+
+import com.mobagm.core.Enums.Region;
+import com.mobagm.core.Enums.Split;
+import com.mobagm.simulation.MatchRecord;
+
+import java.util.*;
+
+/**
+ * Compact results of one finished regional split: every regular-season and playoff match
+ * as a MatchRecord, in the order played, plus the split winner's team id.
+ */
+public final class SplitHistory {
+    private final Region region;
+    private final int year;
+    private final Split split;
+    private final int winnerId;
+    private final List<MatchRecord> regularSeason;
+    private final List<MatchRecord> playoffs;
+
+    public SplitHistory(Region region, int year, Split split, int winnerId,
+                        List<MatchRecord> regularSeason, List<MatchRecord> playoffs) {
+        this.region = region;
+        this.year = year;
+        this.split = split;
+        this.winnerId = winnerId;
+        this.regularSeason = List.copyOf(regularSeason);
+        this.playoffs = List.copyOf(playoffs);
+    }
+
+    public Region getRegion() { return region; }
+    public int getYear() { return year; }
+    public Split getSplit() { return split; }
+    public int getWinnerId() { return winnerId; }
+    public List<MatchRecord> getRegularSeason() { return regularSeason; }
+    public List<MatchRecord> getPlayoffs() { return playoffs; }
+}
@@ -0,0 +1,177 @@
+// BatchGameEngine.java
+package com.mobagm.simulation;
+
+import com.mobagm.core.RandomStream;
+import java.util.Arrays;
+
+/**
+ * Simulates many games in one pass over struct-of-arrays inputs. Callers add pairings with
+ * precomputed phase strengths, the draft advantage and a game key, call run(), then read
+ * per-game outputs by index. This is the only implementation of the game phases:
+ * Game.simulate plays a single game as a one-entry batch, so a game keyed the same way has
+ * the same outcome whether it is played alone or in a wave.
+ *
+ * Not thread-safe; use one engine per thread.
+ */
+public final class BatchGameEngine {
+    private static final int DEFAULT_CAPACITY = 64;
+
+    // Inputs
+    private double[] team1Early;
+    private double[] team2Early;
+    private double[] team1Late;
+    private double[] team2Late;
+    private double[] draftAdvantages;
+    private long[] gameKeys;
+
+    // Outputs
+    private byte[] winners;
+    private byte[] victorySides;
+    private byte[] firstBloodSides;
+    private byte[] baronSides;
+    private int[] team1Kills;
+    private int[] team2Kills;
+    private int[] team1Deaths;
+    private int[] team2Deaths;
+    private double[] firstBloodTimes;
+    private double[] baronTimes;
+    private double[] gameTimes;
+
+    private int size;
+    private final RandomStream random;
+
+    public BatchGameEngine() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public BatchGameEngine(int capacity) {
+        this.random = new RandomStream(0);
+        allocate(Math.max(1, capacity));
+    }
+
+    private void allocate(int capacity) {
+        team1Early = new double[capacity];
+        team2Early = new double[capacity];
+        team1Late = new double[capacity];
+        team2Late = new double[capacity];
+        draftAdvantages = new double[capacity];
+        gameKeys = new long[capacity];
+        winners = new byte[capacity];
+        victorySides = new byte[capacity];
+        firstBloodSides = new byte[capacity];
+        baronSides = new byte[capacity];
+        team1Kills = new int[capacity];
+        team2Kills = new int[capacity];
+        team1Deaths = new int[capacity];
+        team2Deaths = new int[capacity];
+        firstBloodTimes = new double[capacity];
+        baronTimes = new double[capacity];
+        gameTimes = new double[capacity];
+    }
+
+    private void grow() {
+        int capacity = gameKeys.length * 2;
+        team1Early = Arrays.copyOf(team1Early, capacity);
+        team2Early = Arrays.copyOf(team2Early, capacity);
+        team1Late = Arrays.copyOf(team1Late, capacity);
+        team2Late = Arrays.copyOf(team2Late, capacity);
+        draftAdvantages = Arrays.copyOf(draftAdvantages, capacity);
+        gameKeys = Arrays.copyOf(gameKeys, capacity);
+        winners = new byte[capacity];
+        victorySides = new byte[capacity];
+        firstBloodSides = new byte[capacity];
+        baronSides = new byte[capacity];
+        team1Kills = new int[capacity];
+        team2Kills = new int[capacity];
+        team1Deaths = new int[capacity];
+        team2Deaths = new int[capacity];
+        firstBloodTimes = new double[capacity];
+        baronTimes = new double[capacity];
+        gameTimes = new double[capacity];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // Queues one game and returns its index in the output arrays
+    public int add(double team1EarlyStrength, double team2EarlyStrength,
+                   double team1LateStrength, double team2LateStrength, double draftAdvantage,
+                   long gameKey) {
+        if (size == gameKeys.length) {
+            grow();
+        }
+        team1Early[size] = team1EarlyStrength;
+        team2Early[size] = team2EarlyStrength;
+        team1Late[size] = team1LateStrength;
+        team2Late[size] = team2LateStrength;
+        draftAdvantages[size] = draftAdvantage;
+        gameKeys[size] = gameKey;
+        return size++;
+    }
+
+    public void run() {
+        final RandomStream random = this.random;
+        for (int i = 0; i < size; i++) {
+            random.reset(gameKeys[i]);
+            int kills1 = 0, kills2 = 0, deaths1 = 0, deaths2 = 0;
+
+            // Early game: first blood goes to the stronger early-game side
+            double firstBloodTime = 5 + random.nextDouble() * 10;
+            if (team1Early[i] > team2Early[i]) {
+                kills1 += random.nextInt(3) + 1;
+                deaths2 += kills1;
+                firstBloodSides[i] = Game.TEAM1_SIDE;
+            } else {
+                kills2 += random.nextInt(3) + 1;
+                deaths1 += kills2;
+                firstBloodSides[i] = Game.TEAM2_SIDE;
+            }
+            firstBloodTimes[i] = firstBloodTime;
+
+            // Mid game: skirmishes and an optional baron
+            double baronTime = 15 + random.nextDouble() * 10;
+            int midKills1 = random.nextInt(5) + 2;
+            int midKills2 = random.nextInt(5) + 2;
+            kills1 += midKills1;
+            kills2 += midKills2;
+            deaths1 += midKills2;
+            deaths2 += midKills1;
+            if (random.nextBoolean()) {
+                baronSides[i] = random.nextBoolean() ? Game.TEAM1_SIDE : Game.TEAM2_SIDE;
+                baronTimes[i] = baronTime;
+            } else {
+                baronSides[i] = Game.NO_SIDE;
+                baronTimes[i] = 0;
+            }
+
+            // Late game and winner
+            gameTimes[i] = 25 + random.nextDouble() * 20;
+            double late1 = team1Late[i];
+            double late2 = team2Late[i];
+            victorySides[i] = late1 > late2 ? Game.TEAM1_SIDE : Game.TEAM2_SIDE;
+            double roll1 = late1 + draftAdvantages[i] + random.nextGaussian() * 5;
+            double roll2 = late2 + random.nextGaussian() * 5;
+            winners[i] = roll1 > roll2 ? Game.TEAM1_SIDE : Game.TEAM2_SIDE;
+
+            team1Kills[i] = kills1;
+            team2Kills[i] = kills2;
+            team1Deaths[i] = deaths1;
+            team2Deaths[i] = deaths2;
+        }
+    }
+
+    public int size() { return size; }
+    public long getGameKey(int i) { return gameKeys[i]; }
+    public byte getWinner(int i) { return winners[i]; }
+    public byte getVictorySide(int i) { return victorySides[i]; }
+    public byte getFirstBloodSide(int i) { return firstBloodSides[i]; }
+    public double getFirstBloodTime(int i) { return firstBloodTimes[i]; }
+    public byte getBaronSide(int i) { return baronSides[i]; }
+    public double getBaronTime(int i) { return baronTimes[i]; }
+    public int getTeam1Kills(int i) { return team1Kills[i]; }
+    public int getTeam2Kills(int i) { return team2Kills[i]; }
+    public int getTeam1Deaths(int i) { return team1Deaths[i]; }
+    public int getTeam2Deaths(int i) { return team2Deaths[i]; }
+    public double getGameTime(int i) { return gameTimes[i]; }
+}
@@ -0,0 +1,33 @@
+// Champion.java
+package com.mobagm.simulation;
+
+import com.mobagm.core.Enums.Role;
+
+/**
+ * Immutable champion flyweight. Every champion exists once, in ChampionRegistry, under a
+ * dense id; drafts and mastery tables store only the id.
+ */
+public final class Champion {
+    private final int id;
+    private final String name;
+    private final Role role;
+    private final double winRate;
+
+    Champion(int id, String name, Role role) {
+        this.id = id;
+        this.name = name;
+        this.role = role;
+        this.winRate = 0.5; // Base 50% win rate
+    }
+
+    public int getId() { return id; }
+    public String getName() { return name; }
+    // The position the champion is usually played in
+    public Role getRole() { return role; }
+    public double getWinRate() { return winRate; }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,93 @@
+// ChampionRegistry.java
+package com.mobagm.simulation;
+
+import com.mobagm.core.Enums.Role;
+import java.util.*;
+
+/**
+ * The champion pool. Each champion is a single shared Champion under a dense id, from 0 to
+ * size() - 1, so drafts, mastery tables and matchup matrices can refer to champions by id
+ * and index arrays with it. Ids follow the order of the table below; saved worlds store
+ * them, so any change to the table needs a new WorldSave version.
+ */
+public final class ChampionRegistry {
+    // Grouped by usual role, in Role order
+    private static final String[][] NAMES = {
+            // Top
+            {
+                "Aatrox", "Camille", "Cho'Gath", "Darius", "Dr. Mundo", "Fiora", "Gangplank", "Garen", "Gnar",
+                "Gragas", "Gwen", "Illaoi", "Irelia", "Jax", "Jayce", "K'Sante", "Kayle", "Kennen", "Kled",
+                "Malphite", "Mordekaiser", "Nasus", "Olaf", "Ornn", "Pantheon", "Poppy", "Quinn", "Renekton",
+                "Riven", "Rumble", "Sett", "Shen", "Singed", "Sion", "Teemo", "Tryndamere", "Urgot", "Volibear",
+                "Wukong", "Yorick"
+            },
+            // Jungle
+            {
+                "Amumu", "Bel'Veth", "Briar", "Diana", "Ekko", "Elise", "Evelynn", "Fiddlesticks", "Graves",
+                "Hecarim", "Ivern", "Jarvan IV", "Karthus", "Kayn", "Kha'Zix", "Kindred", "Lee Sin", "Lillia",
+                "Master Yi", "Nidalee", "Nocturne", "Nunu & Willump", "Rammus", "Rek'Sai", "Rengar", "Sejuani",
+                "Shaco", "Shyvana", "Skarner", "Taliyah", "Trundle", "Udyr", "Vi", "Viego", "Warwick",
+                "Xin Zhao", "Zac"
+            },
+            // Mid
+            {
+                "Ahri", "Akali", "Akshan", "Anivia", "Annie", "Aurelion Sol", "Azir", "Cassiopeia", "Corki",
+                "Fizz", "Galio", "Hwei", "Kassadin", "Katarina", "LeBlanc", "Lissandra", "Malzahar", "Naafiri",
+                "Neeko", "Orianna", "Qiyana", "Ryze", "Sylas", "Syndra", "Talon", "Twisted Fate", "Veigar",
+                "Vex", "Viktor", "Vladimir", "Xerath", "Yasuo", "Yone", "Zed", "Zoe"
+            },
+            // Bot
+            {
+                "Aphelios", "Ashe", "Caitlyn", "Draven", "Ezreal", "Jhin", "Jinx", "Kai'Sa", "Kalista",
+                "Kog'Maw", "Lucian", "Miss Fortune", "Nilah", "Samira", "Sivir", "Smolder", "Tristana",
+                "Twitch", "Varus", "Vayne", "Xayah", "Zeri"
+            },
+            // Support
+            {
+                "Alistar", "Bard", "Blitzcrank", "Brand", "Braum", "Janna", "Karma", "Leona", "Lulu", "Lux",
+                "Milio", "Morgana", "Nami", "Nautilus", "Pyke", "Rakan", "Rell", "Renata Glasc", "Senna",
+                "Seraphine", "Sona", "Soraka", "Swain", "Tahm Kench", "Taric", "Thresh", "Vel'Koz", "Yuumi",
+                "Zilean", "Zyra"
+            }
+    };
+
+    private static final Champion[] CHAMPIONS;
+    private static final int[][] BY_ROLE = new int[Role.values().length][];
+    private static final Map<String, Champion> BY_NAME = new HashMap<>();
+
+    static {
+        List<Champion> champions = new ArrayList<>();
+        for (Role role : Role.values()) {
+            String[] names = NAMES[role.ordinal()];
+            BY_ROLE[role.ordinal()] = new int[names.length];
+            for (int i = 0; i < names.length; i++) {
+                Champion champion = new Champion(champions.size(), names[i], role);
+                BY_ROLE[role.ordinal()][i] = champion.getId();
+                BY_NAME.put(champion.getName(), champion);
+                champions.add(champion);
+            }
+        }
+        CHAMPIONS = champions.toArray(new Champion[0]);
+    }
+
+    private ChampionRegistry() {
+    }
+
+    public static int size() {
+        return CHAMPIONS.length;
+    }
+
+    public static Champion get(int id) {
+        return CHAMPIONS[id];
+    }
+
+    // Null if no champion has the name
+    public static Champion byName(String name) {
+        return BY_NAME.get(name);
+    }
+
+    // Ids of the champions usually played in a role; do not modify
+    public static int[] idsFor(Role role) {
+        return BY_ROLE[role.ordinal()];
+    }
+}
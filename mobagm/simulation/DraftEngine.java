@@ -0,0 +1,263 @@
+// DraftEngine.java
+package com.mobagm.simulation;
+
+import com.mobagm.core.Enums.Role;
+import com.mobagm.core.RandomStream;
+import com.mobagm.entities.ChampionMastery;
+import com.mobagm.entities.Player;
+import com.mobagm.entities.Team;
+import java.util.*;
+
+/**
+ * Pick/ban draft in the tournament order: three bans each, six picks, two more bans each,
+ * four more picks, with team 1 on blue side. Champions are tracked by registry id in
+ * bitsets: one of those still available and, per side, a pool of the champions it
+ * prepared for the game. A side's pool holds, for each role, its player's POOL_MASTERED
+ * best mastered champions there plus POOL_WINDOW consecutive champions of the role from a
+ * random offset.
+ * Each side picks the pooled champion scoring best for one of its open roles, and bans
+ * the champion scoring best for the opponent.
+ *
+ * A champion's score for a side is the comfort of that side's player in the role (from
+ * mastery), its synergy with the side's earlier picks and how well it counters the
+ * enemy's picks, plus a small per-game jitter. Synergy and counter values come from
+ * precomputed matrices; the running scores of the pooled champions are updated after each
+ * pick, so scoring a candidate is one array read and a draft allocates nothing. The
+ * composition score of a side is the sum of the scores of its picks without the jitter.
+ * Should a side's pool run dry for every open role, it takes the first free champion of
+ * one, which adds nothing to its composition.
+ *
+ * Not thread-safe; Game keeps one engine per thread.
+ */
+final class DraftEngine {
+    private static final int CHAMPIONS = ChampionRegistry.size();
+    private static final int WORDS = (CHAMPIONS + 63) / 64;
+    private static final Role[] ROLE_VALUES = Role.values();
+    private static final int ROLES = ROLE_VALUES.length;
+    private static final int ALL_ROLES = (1 << ROLES) - 1;
+
+    static final int BAN_COUNT = 10;
+
+    // Draft order: acting side (0 blue, 1 red) and whether the step is a ban
+    private static final byte[] STEP_SIDE = {
+            0, 1, 0, 1, 0, 1,
+            0, 1, 1, 0, 0, 1,
+            1, 0, 1, 0,
+            1, 0, 0, 1
+    };
+    private static final boolean[] STEP_BAN = {
+            true, true, true, true, true, true,
+            false, false, false, false, false, false,
+            true, true, true, true,
+            false, false, false, false
+    };
+
+    private static final int POOL_MASTERED = 3;
+    private static final int POOL_WINDOW = 2;
+
+    // Fixed so every world plays the same game: matchups do not depend on the world seed
+    private static final long MATRIX_KEY = 0x5DEECE66DL;
+    private static final double SYNERGY_SPREAD = 0.1;
+    private static final double COUNTER_SPREAD = 0.1;
+    // Lane opponents matter more than the rest of the enemy team
+    private static final double LANE_COUNTER_FACTOR = 2.0;
+
+    private static final float MASTERY_WEIGHT = 1.0f;
+    private static final float MASTERY_HALF = 200.0f;
+    private static final double JITTER = 0.5;
+    // A game's jitter is a window into this table, so it costs one draw per game
+    private static final int JITTER_SIZE = 1024;
+
+    // Row-major CHAMPIONS x CHAMPIONS; SYNERGY is symmetric, COUNTER[a][b] = -COUNTER[b][a]
+    private static final float[] SYNERGY = new float[CHAMPIONS * CHAMPIONS];
+    private static final float[] COUNTER = new float[CHAMPIONS * CHAMPIONS];
+    private static final float[] JITTER_TABLE = new float[JITTER_SIZE];
+    private static final byte[] ROLE_OF = new byte[CHAMPIONS];
+    // Bitset of the champions for each combination of roles, indexed by role mask
+    private static final long[][] ROLE_SETS = new long[ALL_ROLES + 1][WORDS];
+    private static final long[] ALL_CHAMPIONS = new long[WORDS];
+
+    static {
+        for (int id = 0; id < CHAMPIONS; id++) {
+            ROLE_OF[id] = (byte) ChampionRegistry.get(id).getRole().ordinal();
+            ALL_CHAMPIONS[id >>> 6] |= 1L << id;
+        }
+        for (int mask = 0; mask <= ALL_ROLES; mask++) {
+            for (int id = 0; id < CHAMPIONS; id++) {
+                if ((mask & (1 << ROLE_OF[id])) != 0) ROLE_SETS[mask][id >>> 6] |= 1L << id;
+            }
+        }
+
+        RandomStream random = new RandomStream(MATRIX_KEY);
+        for (int a = 0; a < CHAMPIONS; a++) {
+            for (int b = a + 1; b < CHAMPIONS; b++) {
+                float synergy = (float) (random.nextGaussian() * SYNERGY_SPREAD);
+                SYNERGY[a * CHAMPIONS + b] = synergy;
+                SYNERGY[b * CHAMPIONS + a] = synergy;
+
+                double spread = ROLE_OF[a] == ROLE_OF[b] ? COUNTER_SPREAD * LANE_COUNTER_FACTOR : COUNTER_SPREAD;
+                float counter = (float) (random.nextGaussian() * spread);
+                COUNTER[a * CHAMPIONS + b] = counter;
+                COUNTER[b * CHAMPIONS + a] = -counter;
+            }
+        }
+        for (int i = 0; i < JITTER_SIZE; i++) {
+            JITTER_TABLE[i] = (float) (random.nextDouble() * JITTER);
+        }
+    }
+
+    private final long[] available = new long[WORDS];
+    private final long[][] pools = new long[2][WORDS];
+    // Running scores, valid for pooled champions only
+    private final float[][] scores = new float[2][CHAMPIONS];
+    private final int[] openRoles = new int[2];
+    private final double[] composition = new double[2];
+    private int jitterOffset;
+
+    /**
+     * Drafts team1 (blue) against team2 (red). Picks go to draft slots side * 5 + role and
+     * bans to bans in draft order. Returns team 1's composition score minus team 2's.
+     */
+    double run(Team team1, Team team2, RandomStream random, short[] draft, short[] bans) {
+        System.arraycopy(ALL_CHAMPIONS, 0, available, 0, WORDS);
+        jitterOffset = random.nextInt(JITTER_SIZE);
+        preparePool(team1, 0, random);
+        preparePool(team2, 1, random);
+        openRoles[0] = ALL_ROLES;
+        openRoles[1] = ALL_ROLES;
+        composition[0] = 0;
+        composition[1] = 0;
+
+        int banCount = 0;
+        for (int step = 0; step < STEP_SIDE.length; step++) {
+            int side = STEP_SIDE[step];
+            if (STEP_BAN[step]) {
+                int target = best(1 - side);
+                available[target >>> 6] &= ~(1L << target);
+                bans[banCount++] = (short) target;
+            } else {
+                int pick = best(side);
+                pick(side, pick);
+                draft[side * ROLES + ROLE_OF[pick]] = (short) pick;
+            }
+        }
+        return composition[0] - composition[1];
+    }
+
+    /**
+     * Expected composition score of a side: each starter's comfort with their most mastered
+     * champion of the role. Synergy and counters average out over drafts, and bans push
+     * both sides down their pools alike, so the difference of two sides' expectations
+     * tracks the mean drafted difference to within about a quarter point.
+     */
+    static double expectedComposition(Map<Role, Player> roster) {
+        double total = 0;
+        for (Role role : ROLE_VALUES) {
+            Player player = roster.get(role);
+            if (player == null) continue;
+            ChampionMastery mastery = player.getChampionMastery();
+            float top = 0;
+            for (int i = 0; i < mastery.size(); i++) {
+                if (ROLE_OF[mastery.getChampionId(i)] == role.ordinal()) top = Math.max(top, mastery.getPoints(i));
+            }
+            total += MASTERY_WEIGHT * top / (top + MASTERY_HALF);
+        }
+        return total;
+    }
+
+    private float jitter(int id) {
+        return JITTER_TABLE[(jitterOffset + id) & (JITTER_SIZE - 1)];
+    }
+
+    // Pools a window of each role, then each starter's best mastered champions with their comfort
+    private void preparePool(Team team, int side, RandomStream random) {
+        long[] pool = pools[side];
+        float[] score = scores[side];
+        Arrays.fill(pool, 0L);
+        Map<Role, Player> roster = team.getRoster();
+        for (Role role : ROLE_VALUES) {
+            int[] ids = ChampionRegistry.idsFor(role);
+            int offset = random.nextInt(ids.length);
+            for (int i = 0; i < POOL_WINDOW; i++) {
+                int id = ids[(offset + i) % ids.length];
+                pool[id >>> 6] |= 1L << id;
+                score[id] = jitter(id);
+            }
+
+            Player player = roster.get(role);
+            if (player == null) continue;
+            ChampionMastery mastery = player.getChampionMastery();
+            int taken = 0;
+            for (int k = 0; k < POOL_MASTERED; k++) {
+                int top = -1;
+                for (int i = 0; i < mastery.size(); i++) {
+                    if ((taken & (1 << i)) != 0 || ROLE_OF[mastery.getChampionId(i)] != role.ordinal()) continue;
+                    if (top < 0 || mastery.getPoints(i) > mastery.getPoints(top)) top = i;
+                }
+                if (top < 0) break;
+                taken |= 1 << top;
+                int id = mastery.getChampionId(top);
+                float points = mastery.getPoints(top);
+                pool[id >>> 6] |= 1L << id;
+                score[id] = MASTERY_WEIGHT * points / (points + MASTERY_HALF) + jitter(id);
+            }
+        }
+    }
+
+    // Best available pooled champion for one of the side's open roles
+    private int best(int side) {
+        long[] roleSet = ROLE_SETS[openRoles[side]];
+        long[] pool = pools[side];
+        float[] score = scores[side];
+        int best = -1;
+        float bestScore = Float.NEGATIVE_INFINITY;
+        for (int w = 0; w < WORDS; w++) {
+            for (long bits = available[w] & roleSet[w] & pool[w]; bits != 0; bits &= bits - 1) {
+                int id = (w << 6) + Long.numberOfTrailingZeros(bits);
+                float candidate = score[id];
+                if (candidate > bestScore) {
+                    bestScore = candidate;
+                    best = id;
+                }
+            }
+        }
+        return best >= 0 ? best : firstFree(side);
+    }
+
+    private int firstFree(int side) {
+        long[] roleSet = ROLE_SETS[openRoles[side]];
+        for (int w = 0; w < WORDS; w++) {
+            long bits = available[w] & roleSet[w];
+            if (bits != 0) return (w << 6) + Long.numberOfTrailingZeros(bits);
+        }
+        throw new IllegalStateException("No champion left for an open role");
+    }
+
+    private void pick(int side, int id) {
+        long[] pool = pools[side];
+        if ((pool[id >>> 6] & 1L << id) != 0) {
+            composition[side] += scores[side][id] - jitter(id);
+        }
+        available[id >>> 6] &= ~(1L << id);
+        openRoles[side] &= ~(1 << ROLE_OF[id]);
+
+        // Champions either side can still pick now synergize with this pick for the side and
+        // are countered by it for the enemy; no other score is read again
+        float[] own = scores[side];
+        float[] enemy = scores[1 - side];
+        long[] enemyPool = pools[1 - side];
+        long[] ownRoles = ROLE_SETS[openRoles[side]];
+        long[] enemyRoles = ROLE_SETS[openRoles[1 - side]];
+        int row = id * CHAMPIONS;
+        for (int w = 0; w < WORDS; w++) {
+            for (long bits = available[w] & pool[w] & ownRoles[w]; bits != 0; bits &= bits - 1) {
+                int c = (w << 6) + Long.numberOfTrailingZeros(bits);
+                own[c] += SYNERGY[row + c];
+            }
+            for (long bits = available[w] & enemyPool[w] & enemyRoles[w]; bits != 0; bits &= bits - 1) {
+                int c = (w << 6) + Long.numberOfTrailingZeros(bits);
+                enemy[c] -= COUNTER[row + c];
+            }
+        }
+    }
+}
@@ -1,177 +1,200 @@
 // Game.java
 package com.mobagm.simulation;
 
-import com.mobagm.entities.Player;
+import com.mobagm.core.RandomStream;
+import com.mobagm.core.SimulationRandom;
+import com.mobagm.core.SimulationRandom.Domain;
 import com.mobagm.entities.Team;
 import java.util.*;
 
 public class Game {
+    // Side codes used in the compact event log
+    public static final byte NO_SIDE = 0;
+    public static final byte TEAM1_SIDE = 1;
+    public static final byte TEAM2_SIDE = 2;
+
+    private static final int MAX_EVENTS = 4;
+    private static final int DRAFT_SIZE = 10; // 5 for each team
+    private static final ThreadLocal<DraftEngine> DRAFTS = ThreadLocal.withInitial(DraftEngine::new);
+    // One-game batches for simulate(); Match keeps its own engines for whole waves
+    private static final ThreadLocal<BatchGameEngine> ENGINES = ThreadLocal.withInitial(() -> new BatchGameEngine(1));
+
     private Team team1;
     private Team team2;
     private Team winner;
     private double gameTime;
-    private Map<Team, Integer> kills;
-    private Map<Team, Integer> deaths;
-    private Map<Team, GameStats> gameStats;
-    private List<GameEvent> events;
-    private Champion[] draft;
+    private int team1Kills;
+    private int team2Kills;
+    private int team1Deaths;
+    private int team2Deaths;
+    private final byte[] eventTypes;
+    private final byte[] eventSides;
+    private final double[] eventTimes;
+    private int eventCount;
+    // Champion ids from ChampionRegistry; slots 0-4 are team 1 and 5-9 team 2, each in Role order
+    private final short[] draft;
+    // Banned champion ids in draft order
+    private final short[] bans;
+    // Team 1's draft composition score minus team 2's, added to the final teamfight roll
+    private double draftAdvantage;
+    private long key;
+    private final RandomStream random;
+
+    // Unbound game for pooling; call reset before simulating
+    public Game() {
+        this.eventTypes = new byte[MAX_EVENTS];
+        this.eventSides = new byte[MAX_EVENTS];
+        this.eventTimes = new double[MAX_EVENTS];
+        this.draft = new short[DRAFT_SIZE];
+        this.bans = new short[DraftEngine.BAN_COUNT];
+        this.random = new RandomStream(0);
+    }
 
     public Game(Team team1, Team team2) {
+        this(team1, team2, SimulationRandom.getDefault().nextAdHocKey());
+    }
+
+    public Game(Team team1, Team team2, long key) {
+        this();
+        reset(team1, team2, key);
+    }
+
+    public Game reset(Team team1, Team team2, long key) {
         this.team1 = team1;
         this.team2 = team2;
-        this.kills = new HashMap<>();
-        this.deaths = new HashMap<>();
-        this.gameStats = new HashMap<>();
-        this.events = new ArrayList<>();
-        this.draft = new Champion[10]; // 5 for each team
-
-        kills.put(team1, 0);
-        kills.put(team2, 0);
-        deaths.put(team1, 0);
-        deaths.put(team2, 0);
+        this.winner = null;
+        this.gameTime = 0;
+        this.team1Kills = 0;
+        this.team2Kills = 0;
+        this.team1Deaths = 0;
+        this.team2Deaths = 0;
+        this.eventCount = 0;
+        this.key = key;
+        Arrays.fill(draft, (short) 0);
+        Arrays.fill(bans, (short) 0);
+        this.draftAdvantage = 0;
+        return this;
     }
 
+    // Drafts, then plays the game as a one-entry batch so the phase model lives only in
+    // BatchGameEngine
     public Game simulate() {
-        // Simulate draft phase
         simulateDraft();
 
-        // Simulate game phases
-        simulateEarlyGame();
-        simulateMidGame();
-        simulateLateGame();
-
-        // Determine winner
-        determineWinner();
+        BatchGameEngine engine = ENGINES.get();
+        engine.clear();
+        int index = queue(engine);
+        engine.run();
+        applyBatchResult(engine, index);
 
         return this;
     }
 
-    private void simulateDraft() {
-        Random random = new Random();
-
-        // Simple draft simulation - in a real implementation this would be more complex
-        String[] champions = {"Aatrox", "Azir", "Graves", "Jinx", "Thresh", "Gnar", "Zed", "Lucian", "Leona", "Syndra"};
-
-        for (int i = 0; i < 10; i++) {
-            Champion champion = new Champion(champions[random.nextInt(champions.length)]);
-            draft[i] = champion;
-        }
+    // Queues this drafted game on engine and returns its index there
+    int queue(BatchGameEngine engine) {
+        return engine.add(team1.getEarlyGameStrength(), team2.getEarlyGameStrength(),
+                team1.getLateGameStrength(), team2.getLateGameStrength(), draftAdvantage, key);
     }
 
-    private void simulateEarlyGame() {
-        Random random = new Random();
-
-        // Early game lasts 0-15 minutes
-        double phase1Time = 5 + random.nextDouble() * 10;
-
-        // Team strength in early game
-        double team1EarlyStrength = calculateEarlyGameStrength(team1);
-        double team2EarlyStrength = calculateEarlyGameStrength(team2);
-
-        // Simulate early game events
-        if (team1EarlyStrength > team2EarlyStrength) {
-            kills.put(team1, kills.get(team1) + random.nextInt(3) + 1);
-            deaths.put(team2, deaths.get(team2) + kills.get(team1));
-            events.add(new GameEvent("First Blood", team1, phase1Time));
-        } else {
-            kills.put(team2, kills.get(team2) + random.nextInt(3) + 1);
-            deaths.put(team1, deaths.get(team1) + kills.get(team2));
-            events.add(new GameEvent("First Blood", team2, phase1Time));
+    // Loads the outcome of this game from a batch run; the game must have been drafted with
+    // simulateDraft() before it was queued
+    void applyBatchResult(BatchGameEngine engine, int index) {
+        team1Kills = engine.getTeam1Kills(index);
+        team2Kills = engine.getTeam2Kills(index);
+        team1Deaths = engine.getTeam1Deaths(index);
+        team2Deaths = engine.getTeam2Deaths(index);
+        gameTime = engine.getGameTime(index);
+
+        addEvent(EventType.FIRST_BLOOD, engine.getFirstBloodSide(index), engine.getFirstBloodTime(index));
+        if (engine.getBaronSide(index) != NO_SIDE) {
+            addEvent(EventType.BARON, engine.getBaronSide(index), engine.getBaronTime(index));
         }
-    }
-
-    private void simulateMidGame() {
-        Random random = new Random();
-
-        // Mid game lasts 15-25 minutes
-        double phase2Time = 15 + random.nextDouble() * 10;
-
-        // More kills and objectives
-        int team1Kills = random.nextInt(5) + 2;
-        int team2Kills = random.nextInt(5) + 2;
-
-        kills.put(team1, kills.get(team1) + team1Kills);
-        kills.put(team2, kills.get(team2) + team2Kills);
-        deaths.put(team1, deaths.get(team1) + team2Kills);
-        deaths.put(team2, deaths.get(team2) + team1Kills);
+        addEvent(EventType.VICTORY, engine.getVictorySide(index), gameTime);
 
-        // Baron fight
-        if (random.nextBoolean()) {
-            Team baronWinner = random.nextBoolean() ? team1 : team2;
-            events.add(new GameEvent("Baron", baronWinner, phase2Time));
-        }
+        winner = sideTeam(engine.getWinner(index));
     }
 
-    private void simulateLateGame() {
-        Random random = new Random();
-
-        // Late game determines winner
-        double phase3Time = 25 + random.nextDouble() * 20;
-        gameTime = phase3Time;
+    void simulateDraft() {
+        // The draft draws from its own sub-stream so it never shifts the game's draws
+        random.reset(SimulationRandom.derive(key, Domain.DRAFT));
+        draftAdvantage = DRAFTS.get().run(team1, team2, random, draft, bans);
+    }
 
-        // Final teamfight
-        double team1LateStrength = calculateLateGameStrength(team1);
-        double team2LateStrength = calculateLateGameStrength(team2);
+    private void addEvent(EventType type, byte side, double time) {
+        eventTypes[eventCount] = (byte) type.ordinal();
+        eventSides[eventCount] = side;
+        eventTimes[eventCount] = time;
+        eventCount++;
+    }
 
-        if (team1LateStrength > team2LateStrength) {
-            events.add(new GameEvent("Victory", team1, gameTime));
-        } else {
-            events.add(new GameEvent("Victory", team2, gameTime));
-        }
+    private Team sideTeam(byte side) {
+        return side == TEAM1_SIDE ? team1 : side == TEAM2_SIDE ? team2 : null;
     }
 
-    private double calculateEarlyGameStrength(Team team) {
-        double strength = 0;
-        for (Player player : team.getRoster().values()) {
-            strength += player.getMechanical() * 0.7 + player.getStrategic() * 0.3;
+    // Getters
+    public Team getTeam1() { return team1; }
+    public Team getTeam2() { return team2; }
+    public Team getWinner() { return winner; }
+    public double getGameTime() { return gameTime; }
+    public long getKey() { return key; }
+    public int getKills(Team team) { return team == team1 ? team1Kills : team == team2 ? team2Kills : 0; }
+    public int getDeaths(Team team) { return team == team1 ? team1Deaths : team == team2 ? team2Deaths : 0; }
+    public int getTeam1Kills() { return team1Kills; }
+    public int getTeam2Kills() { return team2Kills; }
+    public int getEventCount() { return eventCount; }
+    public EventType getEventType(int index) { return EventType.VALUES[eventTypes[index]]; }
+    public byte getEventSide(int index) { return eventSides[index]; }
+    public double getEventTime(int index) { return eventTimes[index]; }
+    public int getDraftPickId(int slot) { return draft[slot]; }
+    public int getBanCount() { return bans.length; }
+    public int getBanId(int index) { return bans[index]; }
+    public double getDraftAdvantage() { return draftAdvantage; }
+    public Champion getDraftPick(int slot) { return ChampionRegistry.get(draft[slot]); }
+
+    // Materializes the compact event log; intended for display, not the simulation path
+    public List<GameEvent> getEvents() {
+        List<GameEvent> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            events.add(new GameEvent(getEventType(i), sideTeam(eventSides[i]), eventTimes[i]));
         }
-        return strength / 5.0;
+        return events;
     }
 
-    private double calculateLateGameStrength(Team team) {
-        double strength = 0;
-        for (Player player : team.getRoster().values()) {
-            strength += player.getMechanical() * 0.4 + player.getStrategic() * 0.6;
+    public Champion[] getDraft() {
+        Champion[] champions = new Champion[DRAFT_SIZE];
+        for (int i = 0; i < DRAFT_SIZE; i++) {
+            champions[i] = getDraftPick(i);
         }
-        return strength / 5.0;
+        return champions;
     }
 
-    private void determineWinner() {
-        // Winner is typically the team with better late game performance
-        double team1Strength = calculateLateGameStrength(team1);
-        double team2Strength = calculateLateGameStrength(team2);
+    // Inner classes
+    public enum EventType {
+        FIRST_BLOOD("First Blood"), BARON("Baron"), VICTORY("Victory");
 
-        // Add some randomness
-        Random random = new Random();
-        team1Strength += random.nextGaussian() * 5;
-        team2Strength += random.nextGaussian() * 5;
+        private static final EventType[] VALUES = values();
 
-        winner = team1Strength > team2Strength ? team1 : team2;
-    }
+        private final String displayName;
 
-    // Getters
-    public Team getTeam1() { return team1; }
-    public Team getTeam2() { return team2; }
-    public Team getWinner() { return winner; }
-    public double getGameTime() { return gameTime; }
-    public int getKills(Team team) { return kills.getOrDefault(team, 0); }
-    public int getDeaths(Team team) { return deaths.getOrDefault(team, 0); }
-    public List<GameEvent> getEvents() { return events; }
-    public Champion[] getDraft() { return draft; }
+        EventType(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() { return displayName; }
+    }
 
-    // Inner classes
     public static class GameEvent {
-        private String type;
+        private EventType type;
         private Team team;
         private double time;
 
-        public GameEvent(String type, Team team, double time) {
+        public GameEvent(EventType type, Team team, double time) {
             this.type = type;
             this.team = team;
             this.time = time;
         }
 
-        public String getType() { return type; }
+        public EventType getType() { return type; }
         public Team getTeam() { return team; }
         public double getTime() { return time; }
     }
@@ -198,21 +221,4 @@ public class Game {
         public double getGoldEarned() { return goldEarned; }
         public double getDamageDealt() { return damageDealt; }
     }
-
-    public static class Champion {
-        private String name;
-        private double winRate;
-        private Map<String, Double> synergies;
-
-        public Champion(String name) {
-            this.name = name;
-            this.winRate = 0.5; // Base 50% win rate
-            this.synergies = new HashMap<>();
-        }
-
-        public String getName() { return name; }
-        public double getWinRate() { return winRate; }
-        public void setWinRate(double winRate) { this.winRate = winRate; }
-        public Map<String, Double> getSynergies() { return synergies; }
-    }
 }
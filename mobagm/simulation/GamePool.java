@@ -0,0 +1,52 @@
+// GamePool.java
+package com.mobagm.simulation;
+
+import com.mobagm.entities.Team;
+import java.util.ArrayDeque;
+
+/**
+ * Pool of reusable Game instances. A Match takes its games from the pool it was created
+ * with and hands them back when it is released, which is usually when its split or
+ * tournament drops out of the detailed history; that can happen on a different thread from
+ * the one that played the games, so the pool is shared and synchronized.
+ *
+ * A regional league owns a pool that holds a whole split's games: once its first split has
+ * been trimmed from the history, every later split plays on recycled games. Matches created
+ * without a pool, such as those of international tournaments, use the shared one.
+ */
+public final class GamePool {
+    private static final int SHARED_CAPACITY = 256;
+    private static final GamePool SHARED = new GamePool(SHARED_CAPACITY);
+
+    private final ArrayDeque<Game> games;
+    private final int capacity;
+
+    // capacity is the most released games kept for reuse; any beyond it are left to the GC
+    public GamePool(int capacity) {
+        this.capacity = capacity;
+        this.games = new ArrayDeque<>(capacity);
+    }
+
+    public static GamePool shared() {
+        return SHARED;
+    }
+
+    synchronized Game acquire(Team team1, Team team2, long key) {
+        Game game = games.pollFirst();
+        if (game == null) {
+            game = new Game();
+        }
+        return game.reset(team1, team2, key);
+    }
+
+    synchronized void release(Game game) {
+        if (games.size() < capacity) {
+            game.reset(null, null, 0);
+            games.addFirst(game);
+        }
+    }
+
+    public synchronized int size() {
+        return games.size();
+    }
+}
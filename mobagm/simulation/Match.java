@@ -2,80 +2,271 @@
 package com.mobagm.simulation;
 
 import com.mobagm.core.Enums.*;
+import com.mobagm.core.RandomStream;
+import com.mobagm.core.SimulationRandom;
+import com.mobagm.core.SimulationRandom.Domain;
 import com.mobagm.entities.Player;
 import com.mobagm.entities.Team;
+import com.mobagm.events.EventBus;
+import com.mobagm.events.SimulationEvent.BaronTaken;
+import com.mobagm.events.SimulationEvent.Kind;
+import com.mobagm.events.SimulationEvent.MatchCompleted;
 import java.util.*;
 
 public class Match {
+    private static final Role[] ROLES = Role.values();
+    private static final ThreadLocal<BatchGameEngine> ENGINES = ThreadLocal.withInitial(BatchGameEngine::new);
+
     private Team team1;
     private Team team2;
     private MatchFormat format;
-    private List<Game> games;
+    private final Game[] games;
+    private int gamesPlayed;
+    // Drafted and queued in the current batch wave, not yet played
+    private Game pendingGame;
+    private int team1Score;
+    private int team2Score;
     private Team winner;
     private MatchResult result;
     private Date matchDate;
     private String tournament;
     private int round;
     private boolean isInternational;
+    private final long matchKey;
+    private final GamePool gamePool;
 
     public Match(Team team1, Team team2, MatchFormat format) {
+        this(team1, team2, format, SimulationRandom.getDefault().nextAdHocKey());
+    }
+
+    public Match(Team team1, Team team2, MatchFormat format, long matchKey) {
+        this(team1, team2, format, matchKey, GamePool.shared());
+    }
+
+    // Games are taken from and released back to gamePool
+    public Match(Team team1, Team team2, MatchFormat format, long matchKey, GamePool gamePool) {
         this.team1 = team1;
         this.team2 = team2;
         this.format = format;
-        this.games = new ArrayList<>();
+        this.games = new Game[format.getMaxGames()];
         this.matchDate = new Date();
         this.isInternational = !team1.getRegion().equals(team2.getRegion());
+        this.matchKey = matchKey;
+        this.gamePool = gamePool;
     }
 
     public Match(Team team1, Team team2, MatchFormat format, String tournament, int round) {
-        this(team1, team2, format);
+        this(team1, team2, format, tournament, round, SimulationRandom.getDefault().nextAdHocKey());
+    }
+
+    public Match(Team team1, Team team2, MatchFormat format, String tournament, int round, long matchKey) {
+        this(team1, team2, format, matchKey);
         this.tournament = tournament;
         this.round = round;
     }
 
     public MatchResult simulate() {
+        prepare();
+
+        int gamesToWin = getGamesToWin();
+        while (team1Score < gamesToWin && team2Score < gamesToWin) {
+            recordGame(simulateGame());
+        }
+
+        return complete();
+    }
+
+    /**
+     * Fast series mode: samples the final score straight from the exact series distribution
+     * instead of playing games. The result carries no games and no team or player statistics
+     * are touched, so this suits forecasting and bulk what-if runs; use simulate() when
+     * per-game detail matters.
+     */
+    public MatchResult simulateFast() {
+        prepare();
+
+        int gamesToWin = getGamesToWin();
+        double p = getGameWinProbability();
+        RandomStream random = new RandomStream(SimulationRandom.derive(matchKey, Domain.SERIES));
+        int outcome = SeriesDistribution.sampleOutcome(gamesToWin, p, random.nextDouble());
+
+        team1Score = SeriesDistribution.team1Score(gamesToWin, outcome);
+        team2Score = SeriesDistribution.team2Score(gamesToWin, outcome);
+        winner = team1Score > team2Score ? team1 : team2;
+        result = new MatchResult(team1, team2, team1Score, team2Score, winner, Collections.emptyList());
+        return result;
+    }
+
+    // Probability that team1 wins a single game under the full engine, with the draft at its expected advantage
+    public double getGameWinProbability() {
+        double draftAdvantage = SeriesDistribution.expectedDraftScore(team1.getRoster())
+                - SeriesDistribution.expectedDraftScore(team2.getRoster());
+        return SeriesDistribution.gameWinProbability(team1.getLateGameStrength(), team2.getLateGameStrength(),
+                draftAdvantage);
+    }
+
+    public SeriesDistribution getSeriesDistribution() {
+        return SeriesDistribution.of(format, getGameWinProbability());
+    }
+
+    /**
+     * Simulates a group of matches together, feeding every pending game of a wave through a
+     * single BatchGameEngine pass. Outcomes are identical to calling simulate() on each match
+     * in list order; statistics are also applied in that order.
+     */
+    public static void simulateAll(List<Match> matches) {
+        simulateAll(matches, false);
+    }
+
+    /**
+     * As simulateAll(matches), optionally splitting the matches into slices played in
+     * parallel, each through its own BatchGameEngine pass. Only valid when no team appears in
+     * more than one of the matches, as within a round of a round-robin schedule; each team's
+     * games and statistics are then touched by exactly one match, and every game draws from
+     * its own keyed stream, so results do not depend on execution order. Events are published
+     * from the calling thread in list order once every match is done.
+     */
+    public static void simulateAll(List<Match> matches, boolean parallel) {
+        int slices = parallel ? Math.min(matches.size(), Runtime.getRuntime().availableProcessors()) : 1;
+        if (slices > 1) {
+            int sliceSize = (matches.size() + slices - 1) / slices;
+            List<List<Match>> parts = new ArrayList<>(slices);
+            for (int from = 0; from < matches.size(); from += sliceSize) {
+                parts.add(matches.subList(from, Math.min(from + sliceSize, matches.size())));
+            }
+            parts.parallelStream().forEach(Match::play);
+        } else {
+            play(matches);
+        }
+
+        for (Match match : matches) {
+            match.publishEvents();
+        }
+    }
+
+    // Plays the matches through one engine on the current thread and settles them in list order
+    private static void play(List<Match> matches) {
+        for (Match match : matches) {
+            match.prepare();
+        }
+
+        BatchGameEngine engine = ENGINES.get();
+        while (true) {
+            engine.clear();
+            for (Match match : matches) {
+                if (!match.isDecided()) {
+                    match.queueNextGame(engine);
+                }
+            }
+            if (engine.size() == 0) {
+                break;
+            }
+
+            engine.run();
+
+            int index = 0;
+            for (Match match : matches) {
+                if (!match.isDecided()) {
+                    Game game = match.pendingGame;
+                    match.pendingGame = null;
+                    game.applyBatchResult(engine, index++);
+                    match.recordGame(game);
+                }
+            }
+        }
+
+        for (Match match : matches) {
+            match.settle();
+        }
+    }
+
+    private void prepare() {
         if (!team1.isRosterComplete() || !team2.isRosterComplete()) {
             throw new IllegalStateException("Both teams must have complete rosters");
         }
+        release();
+        team1Score = 0;
+        team2Score = 0;
+    }
 
-        int team1Wins = 0;
-        int team2Wins = 0;
+    private boolean isDecided() {
         int gamesToWin = getGamesToWin();
+        return team1Score >= gamesToWin || team2Score >= gamesToWin;
+    }
 
-        while (team1Wins < gamesToWin && team2Wins < gamesToWin) {
-            Game game = simulateGame();
-            games.add(game);
+    // Drafts the next game here, since its outcome depends on the draft, and queues the rest
+    private void queueNextGame(BatchGameEngine engine) {
+        Game game = gamePool.acquire(team1, team2, SimulationRandom.gameKey(matchKey, gamesPlayed));
+        game.simulateDraft();
+        game.queue(engine);
+        pendingGame = game;
+    }
 
-            if (game.getWinner() == team1) {
-                team1Wins++;
-            } else {
-                team2Wins++;
-            }
+    private void recordGame(Game game) {
+        games[gamesPlayed++] = game;
+        if (game.getWinner() == team1) {
+            team1Score++;
+        } else {
+            team2Score++;
         }
+    }
 
-        winner = team1Wins > team2Wins ? team1 : team2;
-        result = new MatchResult(team1, team2, team1Wins, team2Wins, winner, games);
+    private MatchResult complete() {
+        settle();
+        publishEvents();
+        return result;
+    }
 
-        // Update team and player statistics
+    // Records the result and updates team and player statistics
+    private void settle() {
+        winner = team1Score > team2Score ? team1 : team2;
+        result = new MatchResult(team1, team2, team1Score, team2Score, winner, getGames());
         updateStatistics();
+    }
 
-        return result;
+    private void publishEvents() {
+        EventBus events = EventBus.current();
+        if (events.isObserved(Kind.MATCH_COMPLETED)) {
+            events.publish(new MatchCompleted(matchKey, tournament, team1.getName(), team2.getName(),
+                    team1Score, team2Score));
+        }
+        if (events.isObserved(Kind.BARON_TAKEN)) {
+            for (int g = 0; g < gamesPlayed; g++) {
+                Game game = games[g];
+                for (int e = 0; e < game.getEventCount(); e++) {
+                    if (game.getEventType(e) == Game.EventType.BARON) {
+                        Team team = game.getEventSide(e) == Game.TEAM1_SIDE ? team1 : team2;
+                        events.publish(new BaronTaken(matchKey, g, team.getName(), game.getEventTime(e)));
+                    }
+                }
+            }
+        }
     }
 
     private int getGamesToWin() {
-        switch (format) {
-            case BO1: return 1;
-            case BO3: return 2;
-            case BO5: return 3;
-            default: return 1;
-        }
+        return format.getGamesToWin();
     }
 
     private Game simulateGame() {
-        Game game = new Game(team1, team2);
+        Game game = gamePool.acquire(team1, team2, SimulationRandom.gameKey(matchKey, gamesPlayed));
         return game.simulate();
     }
 
+    /**
+     * Returns this match's games to the pool. The per-game detail of this match (and of its
+     * result) is gone afterwards; the score, winner and statistics already recorded remain.
+     */
+    public void release() {
+        for (int i = 0; i < gamesPlayed; i++) {
+            gamePool.release(games[i]);
+            games[i] = null;
+        }
+        gamesPlayed = 0;
+        if (result != null) {
+            result.detachGames();
+        }
+    }
+
     private void updateStatistics() {
         boolean team1Won = winner == team1;
         boolean team2Won = winner == team2;
@@ -86,14 +277,10 @@ public class Match {
         team2.getStatistics().updateGameResult(team2Won, calculateAverageGameTime(),
                 calculateTeamKills(team2), calculateTeamDeaths(team2));
 
-        // Update player statistics
-        for (Player player : team1.getRoster().values()) {
-            updatePlayerStatistics(player, team1Won);
-        }
-
-        for (Player player : team2.getRoster().values()) {
-            updatePlayerStatistics(player, team2Won);
-        }
+        // Update player statistics and mastery of the champions each starter drafted
+        RandomStream random = new RandomStream(SimulationRandom.derive(matchKey, Domain.MATCH_STATS));
+        updatePlayers(team1, team1Won, 0, random);
+        updatePlayers(team2, team2Won, 5, random);
 
         // Update international appearances if applicable
         if (isInternational) {
@@ -108,41 +295,58 @@ public class Match {
         }
     }
 
-    private void updatePlayerStatistics(Player player, boolean won) {
-        Random random = new Random();
-
-        // Generate random stats based on performance
-        double performance = player.getMatchPerformance();
-        int kills = Math.max(0, (int) (random.nextGaussian() * 3 + performance / 20));
-        int deaths = Math.max(1, (int) (random.nextGaussian() * 2 + (100 - performance) / 25));
-        int assists = Math.max(0, (int) (random.nextGaussian() * 4 + performance / 15));
-
-        player.getStatistics().updateGameStats(won, performance, kills, deaths, assists);
+    // firstSlot is where the team's picks start in each game's draft
+    private void updatePlayers(Team team, boolean won, int firstSlot, RandomStream random) {
+        Map<Role, Player> roster = team.getRoster();
+        for (Role role : ROLES) {
+            Player player = roster.get(role);
+            if (player == null) continue;
+            double performance = player.getPerformanceProfile().sampleGame(random, won, player.getStatistics());
+            for (int i = 0; i < gamesPlayed; i++) {
+                player.updateChampionMastery(games[i].getDraftPickId(firstSlot + role.ordinal()), performance);
+            }
+        }
     }
 
     private double calculateAverageGameTime() {
-        return games.stream().mapToDouble(Game::getGameTime).average().orElse(25.0);
+        if (gamesPlayed == 0) return 25.0;
+        double total = 0;
+        for (int i = 0; i < gamesPlayed; i++) {
+            total += games[i].getGameTime();
+        }
+        return total / gamesPlayed;
     }
 
     private int calculateTeamKills(Team team) {
-        return games.stream().mapToInt(g -> g.getKills(team)).sum();
+        int total = 0;
+        for (int i = 0; i < gamesPlayed; i++) {
+            total += games[i].getKills(team);
+        }
+        return total;
     }
 
     private int calculateTeamDeaths(Team team) {
-        return games.stream().mapToInt(g -> g.getDeaths(team)).sum();
+        int total = 0;
+        for (int i = 0; i < gamesPlayed; i++) {
+            total += games[i].getDeaths(team);
+        }
+        return total;
     }
 
     // Getters
     public Team getTeam1() { return team1; }
     public Team getTeam2() { return team2; }
     public MatchFormat getFormat() { return format; }
-    public List<Game> getGames() { return games; }
+    public List<Game> getGames() { return Arrays.asList(games).subList(0, gamesPlayed); }
+    public int getGamesPlayed() { return gamesPlayed; }
+    public Game getGame(int index) { return games[index]; }
     public Team getWinner() { return winner; }
     public MatchResult getResult() { return result; }
     public Date getMatchDate() { return matchDate; }
     public String getTournament() { return tournament; }
     public int getRound() { return round; }
     public boolean isInternational() { return isInternational; }
+    public long getMatchKey() { return matchKey; }
 
     @Override
     public String toString() {
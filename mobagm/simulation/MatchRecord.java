@@ -0,0 +1,97 @@
+// MatchRecord.java
+package com.mobagm.simulation;
+
+/**
+ * Compact, immutable summary of a finished match: team ids, series score, and each game's
+ * winner, length and kills. Kept in history once the live Match and its pooled Game objects
+ * are released; the match key is enough to replay the series in full if ever needed.
+ */
+public final class MatchRecord {
+    private final int team1Id;
+    private final int team2Id;
+    private final long matchKey;
+    private final byte[] gameWinners; // Game.TEAM1_SIDE or Game.TEAM2_SIDE
+    private final float[] gameTimes;
+    private final short[] team1Kills;
+    private final short[] team2Kills;
+
+    public MatchRecord(int team1Id, int team2Id, long matchKey, byte[] gameWinners,
+                       float[] gameTimes, short[] team1Kills, short[] team2Kills) {
+        this.team1Id = team1Id;
+        this.team2Id = team2Id;
+        this.matchKey = matchKey;
+        this.gameWinners = gameWinners.clone();
+        this.gameTimes = gameTimes.clone();
+        this.team1Kills = team1Kills.clone();
+        this.team2Kills = team2Kills.clone();
+    }
+
+    // Captures a completed match; call before the match is released
+    public static MatchRecord of(Match match) {
+        int games = match.getGamesPlayed();
+        byte[] winners = new byte[games];
+        float[] times = new float[games];
+        short[] kills1 = new short[games];
+        short[] kills2 = new short[games];
+        for (int i = 0; i < games; i++) {
+            Game game = match.getGame(i);
+            winners[i] = game.getWinner() == match.getTeam1() ? Game.TEAM1_SIDE : Game.TEAM2_SIDE;
+            times[i] = (float) game.getGameTime();
+            kills1[i] = (short) game.getTeam1Kills();
+            kills2[i] = (short) game.getTeam2Kills();
+        }
+        return new MatchRecord(match.getTeam1().getId(), match.getTeam2().getId(), match.getMatchKey(),
+                winners, times, kills1, kills2);
+    }
+
+    public int getTeam1Score() {
+        int score = 0;
+        for (byte side : gameWinners) {
+            if (side == Game.TEAM1_SIDE) score++;
+        }
+        return score;
+    }
+
+    public int getTeam2Score() {
+        return gameWinners.length - getTeam1Score();
+    }
+
+    public int getWinnerId() {
+        return getTeam1Score() > getTeam2Score() ? team1Id : team2Id;
+    }
+
+    public int getLoserId() {
+        return getWinnerId() == team1Id ? team2Id : team1Id;
+    }
+
+    public double getTotalGameTime() {
+        double total = 0;
+        for (float time : gameTimes) total += time;
+        return total;
+    }
+
+    public double getAverageGameTime() {
+        return gameTimes.length == 0 ? 0.0 : getTotalGameTime() / gameTimes.length;
+    }
+
+    public int getTotalKills() {
+        int total = 0;
+        for (int i = 0; i < gameWinners.length; i++) total += team1Kills[i] + team2Kills[i];
+        return total;
+    }
+
+    public String getScoreString() {
+        return getTeam1Score() + "-" + getTeam2Score();
+    }
+
+    // Getters
+    public int getTeam1Id() { return team1Id; }
+    public int getTeam2Id() { return team2Id; }
+    public long getMatchKey() { return matchKey; }
+    public int getGameCount() { return gameWinners.length; }
+    public byte getGameWinnerSide(int game) { return gameWinners[game]; }
+    public int getGameWinnerId(int game) { return gameWinners[game] == Game.TEAM1_SIDE ? team1Id : team2Id; }
+    public double getGameTime(int game) { return gameTimes[game]; }
+    public int getTeam1Kills(int game) { return team1Kills[game]; }
+    public int getTeam2Kills(int game) { return team2Kills[game]; }
+}
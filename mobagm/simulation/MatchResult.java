@@ -2,6 +2,7 @@
 package com.mobagm.simulation;
 
 import com.mobagm.entities.Team;
+import java.util.Collections;
 import java.util.List;
 
 public class MatchResult {
@@ -30,14 +31,23 @@ public class MatchResult {
     private void calculateMatchStats() {
         if (games.isEmpty()) return;
 
-        averageGameTime = games.stream().mapToDouble(Game::getGameTime).average().orElse(0.0);
-        totalKills = games.stream().mapToInt(g -> g.getKills(team1) + g.getKills(team2)).sum();
+        double totalTime = 0;
+        for (Game game : games) {
+            totalTime += game.getGameTime();
+            totalKills += game.getTeam1Kills() + game.getTeam2Kills();
+        }
+        averageGameTime = totalTime / games.size();
 
         // Simple MVP calculation - player from winning team with best performance
         // In a real implementation, this would be more sophisticated
         mvpPlayer = "Player from " + winner.getName();
     }
 
+    // Called when the owning match hands its games back to the pool
+    void detachGames() {
+        games = Collections.emptyList();
+    }
+
     public boolean isUpset() {
         double team1Strength = team1.getTeamStrength();
         double team2Strength = team2.getTeamStrength();
@@ -0,0 +1,156 @@
+// SeriesDistribution.java
+package com.mobagm.simulation;
+
+import com.mobagm.core.Enums.MatchFormat;
+import com.mobagm.core.Enums.Role;
+import com.mobagm.entities.Player;
+import java.util.Map;
+
+/**
+ * Exact distribution of final series scores for a best-of-N match, given the per-game win
+ * probability of team 1. Team 1 wins g-j with probability C(g-1+j, j) p^g q^j, where g is
+ * the number of games needed to win and j the games it dropped along the way.
+ *
+ * Outcomes are indexed 0..2g-1: index j < g is team 1 winning g-j, index g+j is team 2
+ * winning g-j. The static sampling helpers work on these indices without allocating.
+ */
+public final class SeriesDistribution {
+    private static final double SQRT2 = Math.sqrt(2.0);
+
+    private final MatchFormat format;
+    private final double gameWinProbability;
+    private final double[] outcomeProbabilities;
+
+    private SeriesDistribution(MatchFormat format, double gameWinProbability) {
+        this.format = format;
+        this.gameWinProbability = gameWinProbability;
+
+        int gamesToWin = format.getGamesToWin();
+        this.outcomeProbabilities = new double[gamesToWin * 2];
+        for (int outcome = 0; outcome < outcomeProbabilities.length; outcome++) {
+            outcomeProbabilities[outcome] = outcomeProbability(gamesToWin, gameWinProbability, outcome);
+        }
+    }
+
+    public static SeriesDistribution of(MatchFormat format, double gameWinProbability) {
+        return new SeriesDistribution(format, gameWinProbability);
+    }
+
+    /**
+     * Per-game win probability of the game engine: the winner is decided by late-game
+     * strength, team 1's draft advantage and independent N(0, 5) noise per side, so
+     * P(team 1) = Phi((diff + draft) / (5 * sqrt 2)). Callers pass the expected draft
+     * advantage; the spread of real drafts around it (a variance near 0.5, against 50 for
+     * the noise) is left out, which makes the odds very slightly too confident.
+     */
+    public static double gameWinProbability(double team1LateStrength, double team2LateStrength,
+                                            double draftAdvantage) {
+        return normalCdf((team1LateStrength - team2LateStrength + draftAdvantage) / (5 * SQRT2));
+    }
+
+    // A side's expected draft composition score; team 1's advantage is its score minus team 2's
+    public static double expectedDraftScore(Map<Role, Player> roster) {
+        return DraftEngine.expectedComposition(roster);
+    }
+
+    public static double outcomeProbability(int gamesToWin, double p, int outcome) {
+        boolean team1Wins = outcome < gamesToWin;
+        int gamesDropped = team1Wins ? outcome : outcome - gamesToWin;
+        double winnerP = team1Wins ? p : 1 - p;
+        return binomial(gamesToWin - 1 + gamesDropped, gamesDropped)
+                * Math.pow(winnerP, gamesToWin) * Math.pow(1 - winnerP, gamesDropped);
+    }
+
+    // Inverse-CDF sample of an outcome index from a uniform draw in [0, 1)
+    public static int sampleOutcome(int gamesToWin, double p, double uniform) {
+        int outcomes = gamesToWin * 2;
+        double cumulative = 0;
+        for (int outcome = 0; outcome < outcomes - 1; outcome++) {
+            cumulative += outcomeProbability(gamesToWin, p, outcome);
+            if (uniform < cumulative) {
+                return outcome;
+            }
+        }
+        return outcomes - 1;
+    }
+
+    public static boolean isTeam1Win(int gamesToWin, int outcome) {
+        return outcome < gamesToWin;
+    }
+
+    public static int team1Score(int gamesToWin, int outcome) {
+        return outcome < gamesToWin ? gamesToWin : outcome - gamesToWin;
+    }
+
+    public static int team2Score(int gamesToWin, int outcome) {
+        return outcome < gamesToWin ? outcome : gamesToWin;
+    }
+
+    public double getTeam1WinProbability() {
+        double total = 0;
+        for (int outcome = 0; outcome < format.getGamesToWin(); outcome++) {
+            total += outcomeProbabilities[outcome];
+        }
+        return total;
+    }
+
+    public double getTeam2WinProbability() {
+        return 1 - getTeam1WinProbability();
+    }
+
+    public double getScoreProbability(int team1Score, int team2Score) {
+        int gamesToWin = format.getGamesToWin();
+        if (team1Score == gamesToWin && team2Score >= 0 && team2Score < gamesToWin) {
+            return outcomeProbabilities[team2Score];
+        }
+        if (team2Score == gamesToWin && team1Score >= 0 && team1Score < gamesToWin) {
+            return outcomeProbabilities[gamesToWin + team1Score];
+        }
+        return 0.0;
+    }
+
+    public double getExpectedGames() {
+        int gamesToWin = format.getGamesToWin();
+        double expected = 0;
+        for (int outcome = 0; outcome < outcomeProbabilities.length; outcome++) {
+            expected += outcomeProbabilities[outcome]
+                    * (team1Score(gamesToWin, outcome) + team2Score(gamesToWin, outcome));
+        }
+        return expected;
+    }
+
+    public MatchFormat getFormat() { return format; }
+    public double getGameWinProbability() { return gameWinProbability; }
+    public int getOutcomeCount() { return outcomeProbabilities.length; }
+    public double getOutcomeProbability(int outcome) { return outcomeProbabilities[outcome]; }
+
+    private static double binomial(int n, int k) {
+        double result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return result;
+    }
+
+    // Abramowitz & Stegun 7.1.26; absolute error below 1.5e-7
+    private static double normalCdf(double x) {
+        double z = Math.abs(x) / SQRT2;
+        double t = 1.0 / (1.0 + 0.3275911 * z);
+        double poly = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+                + t * (-1.453152027 + t * 1.061405429))));
+        double erf = 1.0 - poly * Math.exp(-z * z);
+        return x >= 0 ? 0.5 * (1.0 + erf) : 0.5 * (1.0 - erf);
+    }
+
+    @Override
+    public String toString() {
+        int gamesToWin = format.getGamesToWin();
+        StringBuilder sb = new StringBuilder();
+        sb.append(format).append(String.format(" p=%.3f:", gameWinProbability));
+        for (int outcome = 0; outcome < outcomeProbabilities.length; outcome++) {
+            sb.append(String.format(" %d-%d %.3f", team1Score(gamesToWin, outcome),
+                    team2Score(gamesToWin, outcome), outcomeProbabilities[outcome]));
+        }
+        return sb.toString();
+    }
+}
@@ -3,6 +3,9 @@ package com.mobagm.tournaments;
 
 import com.mobagm.core.Enums.*;
 import com.mobagm.entities.Team;
+import com.mobagm.events.EventBus;
+import com.mobagm.events.SimulationEvent.ByeGranted;
+import com.mobagm.events.SimulationEvent.Kind;
 import com.mobagm.simulation.Match;
 import com.mobagm.simulation.MatchResult;
 import java.util.*;
@@ -42,17 +45,17 @@ public class SwissTournament extends com.mobagm.tournaments.Tournament {
 
     private void handleOddParticipants() {
         // In a real Swiss tournament, the extra team would get a bye
-        // For simulation purposes, we'll add a dummy "bye" result
-        System.out.println("Warning: Odd number of participants (" + participants.size() + ")");
-        System.out.println("One team will receive a bye each round");
+        // For simulation purposes, we'll add a dummy "bye" result; subscribers are told via
+        // TournamentStarted (odd participant count) and ByeGranted
     }
 
     @Override
     public void simulateRound() {
         List<Match> roundMatches = generateRoundPairings();
+        Match.simulateAll(roundMatches);
 
         for (Match match : roundMatches) {
-            MatchResult result = match.simulate();
+            MatchResult result = match.getResult();
             matches.add(match);
 
             // Update Swiss-specific records
@@ -92,7 +95,8 @@ public class SwissTournament extends com.mobagm.tournaments.Tournament {
 
             if (team2 != null) {
                 availableTeams.remove(team2);
-                roundMatches.add(new Match(team1, team2, MatchFormat.BO3, name, currentRound));
+                roundMatches.add(new Match(team1, team2, MatchFormat.BO3, name, currentRound,
+                        matchKey(currentRound, roundMatches.size())));
             }
         }
 
@@ -100,7 +104,10 @@ public class SwissTournament extends com.mobagm.tournaments.Tournament {
         if (availableTeams.size() == 1) {
             Team byeTeam = availableTeams.get(0);
             wins.put(byeTeam, wins.get(byeTeam) + 1);
-            System.out.println(byeTeam.getName() + " receives a bye in round " + currentRound);
+            EventBus events = EventBus.current();
+            if (events.isObserved(Kind.BYE_GRANTED)) {
+                events.publish(new ByeGranted(name, byeTeam.getName(), currentRound));
+            }
         }
 
         return roundMatches;